@@ -0,0 +1,50 @@
+#!/usr/bin/env bash
+# Builds a class-data-sharing (AppCDS) archive for the prod startup profile.
+#
+#   scripts/cds.sh unpack   split target/*.jar into $CDS_DIR/app.jar and $CDS_DIR/lib
+#   scripts/cds.sh train    start once from $CDS_DIR with the prod profile and write $CDS_DIR/app.jsa
+#   scripts/cds.sh          both
+#
+# CDS only archives classes loaded from plain jars on the class path, so the
+# application runs from the unpacked layout rather than the nested Boot jar:
+#
+#   java -XX:SharedArchiveFile=app.jsa -cp "app.jar:lib/*" com.corespace.tutordesk.TutorDeskApplication
+#
+# The archive must be created and used by the same JVM build.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+CDS_DIR="${CDS_DIR:-target/cds}"
+MAIN_CLASS=com.corespace.tutordesk.TutorDeskApplication
+
+unpack() {
+  local jar
+  jar="$(pwd)/$(ls target/*.jar | head -n 1)"
+  rm -rf "$CDS_DIR"
+  mkdir -p "$CDS_DIR/unpacked"
+  (cd "$CDS_DIR/unpacked" && jar xf "$jar")
+  jar cf "$CDS_DIR/app.jar" -C "$CDS_DIR/unpacked/BOOT-INF/classes" .
+  mv "$CDS_DIR/unpacked/BOOT-INF/lib" "$CDS_DIR/lib"
+  rm -rf "$CDS_DIR/unpacked"
+  echo "Unpacked $jar into $CDS_DIR"
+}
+
+train() {
+  # No database is needed: the run exits as soon as the context is ready,
+  # and index reconciliation and scheduling are switched off
+  (cd "$CDS_DIR" && java -XX:ArchiveClassesAtExit=app.jsa \
+    -Dspring.profiles.active=prod \
+    -Dapp.startup.exit-on-ready=true \
+    -Dapp.mongodb.index-reconciliation=off \
+    -Dapp.scheduling.enabled=false \
+    -Dserver.port=0 \
+    -cp "app.jar:lib/*" "$MAIN_CLASS")
+  echo "Wrote $CDS_DIR/app.jsa"
+}
+
+case "${1:-all}" in
+  unpack) unpack ;;
+  train) train ;;
+  all) unpack; train ;;
+  *) echo "usage: $0 [unpack|train]" >&2; exit 1 ;;
+esac
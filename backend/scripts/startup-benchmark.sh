@@ -0,0 +1,69 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request and resident memory at that moment for:
+#
+#   default    java -jar, default profile
+#   prod       java -jar, prod profile (lazy beans, background indexes, no Flyway or springdoc)
+#   prod-cds   prod profile from the unpacked layout with the AppCDS archive
+#
+# Needs MongoDB on localhost:27017 (docker compose up -d mongodb), a packaged
+# jar (./mvnw package -DskipTests) and the archive (scripts/cds.sh).
+#
+#   scripts/startup-benchmark.sh [runs]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RUNS="${1:-5}"
+PORT="${PORT:-18080}"
+URL="http://localhost:$PORT/api/students"
+JAR="$(ls target/*.jar | head -n 1)"
+CDS_DIR="${CDS_DIR:-target/cds}"
+
+[ -f "$CDS_DIR/app.jsa" ] || scripts/cds.sh
+
+# Starts the command, polls until the first request gets any HTTP response,
+# prints "<milliseconds> <rss kB>" and stops the process
+measure() {
+  local started pid code elapsed rss
+  started=$(date +%s%N)
+  "$@" --server.port="$PORT" > /dev/null 2>&1 &
+  pid=$!
+
+  code=000
+  while [ "$code" = "000" ]; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "process exited before serving a request" >&2
+      return 1
+    fi
+    code=$(curl -s -o /dev/null -w '%{http_code}' "$URL" || true)
+    [ "$code" = "000" ] && sleep 0.01
+  done
+
+  elapsed=$(( ($(date +%s%N) - started) / 1000000 ))
+  rss=$(ps -o rss= -p "$pid" | tr -d ' ')
+  kill "$pid"
+  wait "$pid" 2> /dev/null || true
+  echo "$elapsed $rss"
+}
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+run() {
+  local name=$1; shift
+  local results=()
+  for _ in $(seq "$RUNS"); do
+    results+=("$(measure "$@")")
+  done
+  local ttfr rss
+  ttfr=$(printf '%s\n' "${results[@]}" | cut -d' ' -f1 | median)
+  rss=$(printf '%s\n' "${results[@]}" | cut -d' ' -f2 | median)
+  printf '%-10s %10s %12s\n' "$name" "$ttfr" "$(( rss / 1024 ))"
+}
+
+printf '%-10s %10s %12s\n' "mode" "ttfr (ms)" "rss (MB)"
+run default java -jar "$JAR"
+run prod java -jar "$JAR" --spring.profiles.active=prod
+# The class path has to be spelled exactly as it was when the archive was written
+(cd "$CDS_DIR" && run prod-cds java -XX:SharedArchiveFile=app.jsa -cp "app.jar:lib/*" \
+  com.corespace.tutordesk.TutorDeskApplication --spring.profiles.active=prod)
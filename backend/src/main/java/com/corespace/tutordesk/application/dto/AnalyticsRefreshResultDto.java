@@ -0,0 +1,21 @@
+package com.corespace.tutordesk.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsRefreshResultDto {
+    
+    private boolean fullRefresh;
+    private LocalDateTime since;
+    private LocalDateTime refreshedAt;
+    private long studentsReprocessed;
+    private long studentsRemoved;
+}
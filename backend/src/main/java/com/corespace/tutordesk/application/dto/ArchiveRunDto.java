@@ -0,0 +1,21 @@
+package com.corespace.tutordesk.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveRunDto {
+    
+    private Long archived;
+    private Integer batches;
+    private LocalDateTime graduatedBefore;
+    private LocalDateTime inactiveBefore;
+    private LocalDateTime executedAt;
+}
@@ -0,0 +1,20 @@
+package com.corespace.tutordesk.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkGradeResultDto {
+    
+    private int requested;
+    private int applied;
+    private int rejected;
+    private List<GradeOutcomeDto> outcomes;
+}
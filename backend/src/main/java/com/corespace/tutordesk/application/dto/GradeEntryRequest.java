@@ -0,0 +1,36 @@
+package com.corespace.tutordesk.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.PositiveOrZero;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GradeEntryRequest {
+    
+    @NotBlank(message = "Student id is required")
+    private String studentId;
+    
+    @NotBlank(message = "Topic is required")
+    private String topic;
+    
+    @NotBlank(message = "Description is required")
+    private String description;
+    
+    @NotNull(message = "Grade is required")
+    @PositiveOrZero(message = "Grade must not be negative")
+    private Double grade;
+    
+    @NotNull(message = "Max grade is required")
+    @PositiveOrZero(message = "Max grade must not be negative")
+    private Double maxGrade;
+    
+    private String comments;
+}
@@ -0,0 +1,23 @@
+package com.corespace.tutordesk.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GradeOutcomeDto {
+    
+    // Position of the entry in the request array
+    private int index;
+    private String studentId;
+    private Status status;
+    private String message;
+    
+    public enum Status {
+        APPLIED, NOT_FOUND, INVALID, FAILED
+    }
+}
@@ -0,0 +1,21 @@
+package com.corespace.tutordesk.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GradeSummaryDto {
+    
+    private String level;
+    private String topic;
+    private Double averageGrade;
+    private Integer entries;
+    private LocalDateTime refreshedAt;
+}
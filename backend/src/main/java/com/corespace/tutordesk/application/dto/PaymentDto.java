@@ -0,0 +1,26 @@
+package com.corespace.tutordesk.application.dto;
+
+import com.corespace.tutordesk.domain.entity.Payment;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentDto {
+    
+    private String id;
+    private String studentId;
+    private LocalDateTime date;
+    private Double amount;
+    private Payment.PaymentMethod method;
+    private String reference;
+    private Payment.PaymentStatus status;
+    private String period;
+    private String notes;
+}
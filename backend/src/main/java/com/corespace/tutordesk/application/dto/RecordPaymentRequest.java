@@ -0,0 +1,43 @@
+package com.corespace.tutordesk.application.dto;
+
+import com.corespace.tutordesk.domain.entity.Payment;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordPaymentRequest {
+    
+    public static final String PERIOD_PATTERN = "\\d{4}-(0[1-9]|1[0-2])";
+    
+    @NotBlank(message = "Student id is required")
+    private String studentId;
+    
+    @NotNull(message = "Amount is required")
+    @Positive(message = "Amount must be positive")
+    private Double amount;
+    
+    @NotNull(message = "Payment method is required")
+    private Payment.PaymentMethod method;
+    
+    private String reference;
+    
+    private Payment.PaymentStatus status;
+    
+    private LocalDateTime date;
+    
+    @Pattern(regexp = PERIOD_PATTERN, message = "Period must be in yyyy-MM format")
+    private String period;
+    
+    private String notes;
+}
@@ -0,0 +1,21 @@
+package com.corespace.tutordesk.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevenueSummaryDto {
+    
+    private String level;
+    private Integer students;
+    private Integer activeStudents;
+    private Double monthlyRevenue;
+    private LocalDateTime refreshedAt;
+}
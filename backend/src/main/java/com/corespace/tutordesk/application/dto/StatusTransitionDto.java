@@ -0,0 +1,25 @@
+package com.corespace.tutordesk.application.dto;
+
+import com.corespace.tutordesk.domain.entity.Student;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusTransitionDto {
+    
+    private String rule;
+    private Student.StudentStatus fromStatus;
+    private Student.StudentStatus toStatus;
+    private LocalDate expiredBefore;
+    private LocalDateTime changedBefore;
+    private Long affected;
+    private LocalDateTime executedAt;
+}
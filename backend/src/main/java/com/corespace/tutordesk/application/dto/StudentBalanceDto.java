@@ -0,0 +1,20 @@
+package com.corespace.tutordesk.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentBalanceDto {
+    
+    private String studentId;
+    private String period;
+    private Double expected;
+    private Double paid;
+    private Double outstanding;
+    private Integer payments;
+}
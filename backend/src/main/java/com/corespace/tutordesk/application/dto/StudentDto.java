@@ -27,4 +27,7 @@ public class StudentDto {
     private LocalDate subscriptionExpiry;
     private List<ProgressEntryDto> progress;
     private String notes;
+    
+    // Set only for students served from the archive
+    private Boolean archived;
 }
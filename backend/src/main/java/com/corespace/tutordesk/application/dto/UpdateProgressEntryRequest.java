@@ -0,0 +1,30 @@
+package com.corespace.tutordesk.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.PositiveOrZero;
+
+/**
+ * Partial update of a progress entry, fields left null are not changed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateProgressEntryRequest {
+    
+    private String topic;
+    
+    private String description;
+    
+    @PositiveOrZero(message = "Grade must not be negative")
+    private Double grade;
+    
+    @PositiveOrZero(message = "Max grade must not be negative")
+    private Double maxGrade;
+    
+    private String comments;
+}
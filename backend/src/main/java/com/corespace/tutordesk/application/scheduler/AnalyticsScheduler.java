@@ -0,0 +1,29 @@
+package com.corespace.tutordesk.application.scheduler;
+
+import com.corespace.tutordesk.application.dto.AnalyticsRefreshResultDto;
+import com.corespace.tutordesk.application.service.AnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsScheduler {
+    
+    private final AnalyticsService analyticsService;
+    
+    @Scheduled(fixedDelayString = "${app.analytics.refresh-interval:900000}",
+            initialDelayString = "${app.analytics.initial-delay:60000}")
+    public void refreshAnalytics() {
+        log.info("Starting scheduled analytics refresh");
+        
+        try {
+            AnalyticsRefreshResultDto result = analyticsService.refresh(false);
+            log.info("Analytics refreshed, {} students reprocessed", result.getStudentsReprocessed());
+        } catch (Exception e) {
+            log.error("Error during analytics refresh", e);
+        }
+    }
+}
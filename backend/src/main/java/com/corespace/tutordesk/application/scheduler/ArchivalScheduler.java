@@ -0,0 +1,28 @@
+package com.corespace.tutordesk.application.scheduler;
+
+import com.corespace.tutordesk.application.dto.ArchiveRunDto;
+import com.corespace.tutordesk.application.service.StudentArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArchivalScheduler {
+    
+    private final StudentArchiveService studentArchiveService;
+    
+    @Scheduled(cron = "${app.archival.cron:0 30 3 * * *}") // Run daily at 3:30 AM, after lifecycle transitions
+    public void archiveStudents() {
+        log.info("Starting scheduled student archival");
+        
+        try {
+            ArchiveRunDto result = studentArchiveService.archiveStudents();
+            log.info("Student archival completed, {} students archived", result.getArchived());
+        } catch (Exception e) {
+            log.error("Error during student archival", e);
+        }
+    }
+}
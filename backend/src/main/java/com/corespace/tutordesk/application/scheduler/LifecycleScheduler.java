@@ -0,0 +1,31 @@
+package com.corespace.tutordesk.application.scheduler;
+
+import com.corespace.tutordesk.application.dto.StatusTransitionDto;
+import com.corespace.tutordesk.application.service.StudentLifecycleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LifecycleScheduler {
+    
+    private final StudentLifecycleService studentLifecycleService;
+    
+    @Scheduled(cron = "${app.lifecycle.cron:0 0 2 * * *}") // Run daily at 2 AM
+    public void applyStatusTransitions() {
+        log.info("Starting scheduled student status transitions");
+        
+        try {
+            List<StatusTransitionDto> transitions = studentLifecycleService.applyStatusTransitions();
+            long affected = transitions.stream().mapToLong(StatusTransitionDto::getAffected).sum();
+            log.info("Status transitions completed, {} students affected", affected);
+        } catch (Exception e) {
+            log.error("Error during student status transitions", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.corespace.tutordesk.application.scheduler;
+
+import com.corespace.tutordesk.application.service.PaymentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentScheduler {
+    
+    private final PaymentService paymentService;
+    
+    @Scheduled(cron = "${app.payments.open-period-cron:0 0 1 1 * *}") // Run on the 1st of each month
+    public void openCurrentPeriod() {
+        String period = YearMonth.now().toString();
+        log.info("Starting scheduled opening of billing period {}", period);
+        
+        try {
+            paymentService.openPeriod(period);
+        } catch (Exception e) {
+            log.error("Error while opening billing period {}", period, e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.corespace.tutordesk.application.scheduler;
+
+import com.corespace.tutordesk.application.dto.StorageMigrationStatusDto;
+import com.corespace.tutordesk.application.service.StorageMigrationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.storage-migration.enabled", havingValue = "true", matchIfMissing = true)
+public class StorageMigrationScheduler {
+    
+    private final StorageMigrationService storageMigrationService;
+    
+    @Scheduled(initialDelayString = "${app.storage-migration.initial-delay:60000}",
+            fixedDelayString = "${app.storage-migration.interval:600000}") // Completed collections are skipped on later runs
+    public void migrateStorage() {
+        try {
+            List<StorageMigrationStatusDto> status = storageMigrationService.runMigration();
+            log.debug("Storage migration status: {}", status);
+        } catch (Exception e) {
+            log.error("Error during storage migration", e);
+        }
+    }
+}
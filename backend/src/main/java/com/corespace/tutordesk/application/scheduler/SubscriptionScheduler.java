@@ -3,6 +3,7 @@ package com.corespace.tutordesk.application.scheduler;
 import com.corespace.tutordesk.application.dto.StudentDto;
 import com.corespace.tutordesk.application.service.NotificationService;
 import com.corespace.tutordesk.application.service.StudentService;
+import com.corespace.tutordesk.infrastructure.tenant.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -28,47 +29,60 @@ public class SubscriptionScheduler {
         log.info("Starting scheduled subscription expiry check");
         
         try {
-            List<StudentDto> studentsWithExpiringSubscription = 
-                studentService.getStudentsWithExpiringSubscription(expiryDaysBefore);
-            
-            if (!studentsWithExpiringSubscription.isEmpty()) {
-                log.info("Found {} students with expiring subscriptions", studentsWithExpiringSubscription.size());
-                notificationService.sendSubscriptionExpiryNotification(studentsWithExpiringSubscription);
-            } else {
-                log.info("No students with expiring subscriptions found");
+            // Each teacher's students are queried separately so every query stays on one shard
+            for (String teacherId : studentService.getTeacherIds()) {
+                TenantContext.runAs(teacherId, this::checkSubscriptionExpiryForCurrentTeacher);
             }
         } catch (Exception e) {
             log.error("Error during subscription expiry check", e);
         }
     }
     
+    private void checkSubscriptionExpiryForCurrentTeacher() {
+        List<StudentDto> studentsWithExpiringSubscription = 
+            studentService.getStudentsWithExpiringSubscription(expiryDaysBefore);
+        
+        if (!studentsWithExpiringSubscription.isEmpty()) {
+            log.info("Found {} students with expiring subscriptions for teacher {}", studentsWithExpiringSubscription.size(), TenantContext.getTeacherId());
+            notificationService.sendSubscriptionExpiryNotification(studentsWithExpiringSubscription);
+        } else {
+            log.info("No students with expiring subscriptions found for teacher {}", TenantContext.getTeacherId());
+        }
+    }
+    
     // NOTE: To enable automated scheduling, add spring-boot-starter-scheduling dependency
     // @Scheduled(cron = "0 0 8 * * *") // Run daily at 8 AM
     public void sendPaymentReminders() {
         log.info("Starting scheduled payment reminder check");
         
         try {
-            // Get students whose payment day is today
-            int today = java.time.LocalDate.now().getDayOfMonth();
-            List<StudentDto> studentsForPaymentReminder = 
-                studentService.getStudentsByStatus(com.corespace.tutordesk.domain.entity.Student.StudentStatus.ACTIVE);
-            
-            // Filter students whose payment day is today or tomorrow
-            List<StudentDto> studentsToRemind = studentsForPaymentReminder.stream()
-                .filter(student -> {
-                    int paymentDay = student.getPaymentDay();
-                    return paymentDay == today || paymentDay == today + 1;
-                })
-                .toList();
-            
-            if (!studentsToRemind.isEmpty()) {
-                log.info("Sending payment reminders to {} students", studentsToRemind.size());
-                notificationService.sendPaymentReminderNotification(studentsToRemind);
-            } else {
-                log.info("No payment reminders to send today");
+            for (String teacherId : studentService.getTeacherIds()) {
+                TenantContext.runAs(teacherId, this::sendPaymentRemindersForCurrentTeacher);
             }
         } catch (Exception e) {
             log.error("Error during payment reminder check", e);
         }
     }
+    
+    private void sendPaymentRemindersForCurrentTeacher() {
+        // Get students whose payment day is today
+        int today = java.time.LocalDate.now().getDayOfMonth();
+        List<StudentDto> studentsForPaymentReminder = 
+            studentService.getStudentsByStatus(com.corespace.tutordesk.domain.entity.Student.StudentStatus.ACTIVE);
+        
+        // Filter students whose payment day is today or tomorrow
+        List<StudentDto> studentsToRemind = studentsForPaymentReminder.stream()
+            .filter(student -> {
+                int paymentDay = student.getPaymentDay();
+                return paymentDay == today || paymentDay == today + 1;
+            })
+            .toList();
+        
+        if (!studentsToRemind.isEmpty()) {
+            log.info("Sending payment reminders to {} students for teacher {}", studentsToRemind.size(), TenantContext.getTeacherId());
+            notificationService.sendPaymentReminderNotification(studentsToRemind);
+        } else {
+            log.info("No payment reminders to send today for teacher {}", TenantContext.getTeacherId());
+        }
+    }
 }
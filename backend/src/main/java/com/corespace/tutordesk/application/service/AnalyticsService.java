@@ -0,0 +1,19 @@
+package com.corespace.tutordesk.application.service;
+
+import com.corespace.tutordesk.application.dto.AnalyticsRefreshResultDto;
+import com.corespace.tutordesk.application.dto.GradeSummaryDto;
+import com.corespace.tutordesk.application.dto.RetentionSummaryDto;
+import com.corespace.tutordesk.application.dto.RevenueSummaryDto;
+
+import java.util.List;
+
+public interface AnalyticsService {
+    
+    AnalyticsRefreshResultDto refresh(boolean fullRefresh);
+    
+    List<GradeSummaryDto> getGradeSummaries(String level);
+    
+    List<RetentionSummaryDto> getRetentionSummaries();
+    
+    List<RevenueSummaryDto> getRevenueSummaries();
+}
@@ -0,0 +1,26 @@
+package com.corespace.tutordesk.application.service;
+
+import com.corespace.tutordesk.application.dto.MonthlyRevenueDto;
+import com.corespace.tutordesk.application.dto.PaymentDto;
+import com.corespace.tutordesk.application.dto.RecordPaymentRequest;
+import com.corespace.tutordesk.application.dto.StudentBalanceDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface PaymentService {
+    
+    PaymentDto recordPayment(RecordPaymentRequest request);
+    
+    List<PaymentDto> getPayments(LocalDate from, LocalDate to);
+    
+    List<PaymentDto> getPaymentsByStudent(String studentId, LocalDate from, LocalDate to);
+    
+    List<MonthlyRevenueDto> getMonthlyRevenue(String fromPeriod, String toPeriod);
+    
+    List<StudentBalanceDto> getOutstandingBalances(String period);
+    
+    List<StudentBalanceDto> getStudentBalances(String studentId);
+    
+    void openPeriod(String period);
+}
@@ -0,0 +1,12 @@
+package com.corespace.tutordesk.application.service;
+
+import com.corespace.tutordesk.application.dto.StorageMigrationStatusDto;
+
+import java.util.List;
+
+public interface StorageMigrationService {
+    
+    List<StorageMigrationStatusDto> runMigration();
+    
+    List<StorageMigrationStatusDto> getStatus();
+}
@@ -0,0 +1,11 @@
+package com.corespace.tutordesk.application.service;
+
+import com.corespace.tutordesk.application.dto.ArchiveRunDto;
+import com.corespace.tutordesk.application.dto.StudentDto;
+
+public interface StudentArchiveService {
+    
+    ArchiveRunDto archiveStudents();
+    
+    StudentDto restoreStudent(String id);
+}
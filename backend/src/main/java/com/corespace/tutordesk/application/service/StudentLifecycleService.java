@@ -0,0 +1,12 @@
+package com.corespace.tutordesk.application.service;
+
+import com.corespace.tutordesk.application.dto.StatusTransitionDto;
+
+import java.util.List;
+
+public interface StudentLifecycleService {
+    
+    List<StatusTransitionDto> applyStatusTransitions();
+    
+    List<StatusTransitionDto> getTransitionHistory(int limit);
+}
@@ -1,7 +1,11 @@
 package com.corespace.tutordesk.application.service;
 
+import com.corespace.tutordesk.application.dto.BulkGradeResultDto;
 import com.corespace.tutordesk.application.dto.CreateStudentRequest;
+import com.corespace.tutordesk.application.dto.GradeEntryRequest;
+import com.corespace.tutordesk.application.dto.ProgressEntryDto;
 import com.corespace.tutordesk.application.dto.StudentDto;
+import com.corespace.tutordesk.application.dto.UpdateProgressEntryRequest;
 import com.corespace.tutordesk.domain.entity.Student;
 
 import java.util.List;
@@ -22,7 +26,15 @@ public interface StudentService {
     
     StudentDto addProgressEntry(String studentId, String topic, String description, Double grade, Double maxGrade, String comments);
     
+    BulkGradeResultDto addProgressEntries(List<GradeEntryRequest> entries);
+    
+    ProgressEntryDto updateProgressEntry(String studentId, String entryId, UpdateProgressEntryRequest request);
+    
+    void deleteProgressEntry(String studentId, String entryId);
+    
     List<StudentDto> getStudentsWithExpiringSubscription(int daysBeforeExpiry);
     
     void updateSubscriptionExpiry(String studentId, int monthsToAdd);
+    
+    List<String> getTeacherIds();
 }
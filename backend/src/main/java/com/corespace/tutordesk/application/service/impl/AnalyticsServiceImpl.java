@@ -0,0 +1,128 @@
+package com.corespace.tutordesk.application.service.impl;
+
+import com.corespace.tutordesk.application.dto.AnalyticsRefreshResultDto;
+import com.corespace.tutordesk.application.dto.GradeSummaryDto;
+import com.corespace.tutordesk.application.dto.RetentionSummaryDto;
+import com.corespace.tutordesk.application.dto.RevenueSummaryDto;
+import com.corespace.tutordesk.application.service.AnalyticsService;
+import com.corespace.tutordesk.domain.entity.AnalyticsWatermark;
+import com.corespace.tutordesk.domain.entity.GradeSummary;
+import com.corespace.tutordesk.domain.entity.RetentionSummary;
+import com.corespace.tutordesk.domain.entity.RevenueSummary;
+import com.corespace.tutordesk.infrastructure.replica.GradeSummaryRepository;
+import com.corespace.tutordesk.infrastructure.replica.RetentionSummaryRepository;
+import com.corespace.tutordesk.infrastructure.replica.RevenueSummaryRepository;
+import com.corespace.tutordesk.infrastructure.repository.AnalyticsRepository;
+import com.corespace.tutordesk.infrastructure.tenant.TenantContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsServiceImpl implements AnalyticsService {
+    
+    private final AnalyticsRepository analyticsRepository;
+    private final GradeSummaryRepository gradeSummaryRepository;
+    private final RetentionSummaryRepository retentionSummaryRepository;
+    private final RevenueSummaryRepository revenueSummaryRepository;
+    
+    @Override
+    public synchronized AnalyticsRefreshResultDto refresh(boolean fullRefresh) {
+        LocalDateTime refreshedAt = LocalDateTime.now();
+        LocalDateTime since = null;
+        
+        if (fullRefresh) {
+            analyticsRepository.clearStudentFacts();
+        } else {
+            AnalyticsWatermark watermark = analyticsRepository.findWatermark();
+            since = watermark != null ? watermark.getLastRefreshedAt() : null;
+        }
+        
+        long changed = analyticsRepository.countStudentsUpdatedSince(since);
+        if (changed > 0 || fullRefresh) {
+            analyticsRepository.mergeStudentFacts(since);
+        }
+        long removed = analyticsRepository.removeFactsOfRemovedStudents();
+        log.info("Refreshing analytics: {} students changed since {}, {} removed", changed, since, removed);
+        
+        if (changed > 0 || removed > 0 || fullRefresh) {
+            analyticsRepository.rebuildGradeSummaries(refreshedAt);
+            analyticsRepository.rebuildRetentionSummaries(refreshedAt);
+            analyticsRepository.rebuildRevenueSummaries(refreshedAt);
+        }
+        
+        // Students updated while this run was in progress are picked up by the next one
+        analyticsRepository.saveWatermark(refreshedAt);
+        
+        return AnalyticsRefreshResultDto.builder()
+                .fullRefresh(fullRefresh || since == null)
+                .since(since)
+                .refreshedAt(refreshedAt)
+                .studentsReprocessed(changed)
+                .studentsRemoved(removed)
+                .build();
+    }
+    
+    @Override
+    public List<GradeSummaryDto> getGradeSummaries(String level) {
+        log.info("Fetching grade summaries for level: {}", level);
+        List<GradeSummary> summaries = level != null
+                ? gradeSummaryRepository.findByTeacherIdAndLevelOrderByTopicAsc(TenantContext.getTeacherId(), level)
+                : gradeSummaryRepository.findByTeacherIdOrderByLevelAscTopicAsc(TenantContext.getTeacherId());
+        return summaries.stream()
+                .map(this::mapGradeSummaryToDto)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<RetentionSummaryDto> getRetentionSummaries() {
+        log.info("Fetching retention summaries");
+        return retentionSummaryRepository.findByTeacherIdOrderByStartMonthAsc(TenantContext.getTeacherId()).stream()
+                .map(this::mapRetentionSummaryToDto)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<RevenueSummaryDto> getRevenueSummaries() {
+        log.info("Fetching revenue summaries");
+        return revenueSummaryRepository.findByTeacherIdOrderByLevelAsc(TenantContext.getTeacherId()).stream()
+                .map(this::mapRevenueSummaryToDto)
+                .collect(Collectors.toList());
+    }
+    
+    private GradeSummaryDto mapGradeSummaryToDto(GradeSummary summary) {
+        return GradeSummaryDto.builder()
+                .level(summary.getLevel())
+                .topic(summary.getTopic())
+                .averageGrade(summary.getAverageGrade())
+                .entries(summary.getEntries())
+                .refreshedAt(summary.getRefreshedAt())
+                .build();
+    }
+    
+    private RetentionSummaryDto mapRetentionSummaryToDto(RetentionSummary summary) {
+        return RetentionSummaryDto.builder()
+                .startMonth(summary.getStartMonth())
+                .students(summary.getStudents())
+                .activeStudents(summary.getActiveStudents())
+                .retentionRate(summary.getRetentionRate())
+                .refreshedAt(summary.getRefreshedAt())
+                .build();
+    }
+    
+    private RevenueSummaryDto mapRevenueSummaryToDto(RevenueSummary summary) {
+        return RevenueSummaryDto.builder()
+                .level(summary.getLevel())
+                .students(summary.getStudents())
+                .activeStudents(summary.getActiveStudents())
+                .monthlyRevenue(summary.getMonthlyRevenue() != null ? summary.getMonthlyRevenue().doubleValue() : null)
+                .refreshedAt(summary.getRefreshedAt())
+                .build();
+    }
+}
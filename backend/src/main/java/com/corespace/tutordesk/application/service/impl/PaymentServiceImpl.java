@@ -0,0 +1,172 @@
+package com.corespace.tutordesk.application.service.impl;
+
+import com.corespace.tutordesk.application.dto.MonthlyRevenueDto;
+import com.corespace.tutordesk.application.dto.PaymentDto;
+import com.corespace.tutordesk.application.dto.RecordPaymentRequest;
+import com.corespace.tutordesk.application.dto.StudentBalanceDto;
+import com.corespace.tutordesk.application.service.PaymentService;
+import com.corespace.tutordesk.domain.entity.MonthlyRevenue;
+import com.corespace.tutordesk.domain.entity.Payment;
+import com.corespace.tutordesk.domain.entity.PaymentRollup;
+import com.corespace.tutordesk.domain.entity.Student;
+import com.corespace.tutordesk.infrastructure.repository.PaymentRepository;
+import com.corespace.tutordesk.infrastructure.repository.PaymentRollupRepository;
+import com.corespace.tutordesk.infrastructure.repository.StudentRepository;
+import com.corespace.tutordesk.infrastructure.tenant.TenantContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentServiceImpl implements PaymentService {
+    
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "date");
+    
+    private final PaymentRepository paymentRepository;
+    private final PaymentRollupRepository paymentRollupRepository;
+    private final StudentRepository studentRepository;
+    
+    @Override
+    public PaymentDto recordPayment(RecordPaymentRequest request) {
+        log.info("Recording payment for student: {}", request.getStudentId());
+        Student student = studentRepository.findByTeacherIdAndId(TenantContext.getTeacherId(), request.getStudentId())
+                .orElseThrow(() -> new RuntimeException("Student not found with id: " + request.getStudentId()));
+        
+        LocalDateTime date = request.getDate() != null ? request.getDate() : LocalDateTime.now();
+        String period = request.getPeriod() != null
+                ? parsePeriod(request.getPeriod()).toString()
+                : YearMonth.from(date).toString();
+        
+        Payment payment = Payment.builder()
+                .teacherId(student.getTeacherId())
+                .studentId(student.getId())
+                .date(date)
+                .amount(toMoney(request.getAmount()))
+                .method(request.getMethod())
+                .reference(request.getReference())
+                .status(request.getStatus() != null ? request.getStatus() : Payment.PaymentStatus.COMPLETED)
+                .period(period)
+                .notes(request.getNotes())
+                .createdAt(LocalDateTime.now())
+                .build();
+        
+        Payment savedPayment = paymentRepository.insert(payment);
+        
+        // Only money actually received counts towards the monthly rollup
+        if (savedPayment.getStatus() == Payment.PaymentStatus.COMPLETED) {
+            paymentRollupRepository.applyPayment(student.getTeacherId(), student.getId(), period, student.getMonthlyFee(), savedPayment.getAmount());
+        }
+        
+        return mapToDto(savedPayment);
+    }
+    
+    @Override
+    public List<PaymentDto> getPayments(LocalDate from, LocalDate to) {
+        log.info("Fetching payments from {} to {}", from, to);
+        return paymentRepository.findInRange(TenantContext.getTeacherId(), from.atStartOfDay(), to.plusDays(1).atStartOfDay(), NEWEST_FIRST).stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<PaymentDto> getPaymentsByStudent(String studentId, LocalDate from, LocalDate to) {
+        log.info("Fetching payments for student {} from {} to {}", studentId, from, to);
+        return paymentRepository.findByStudentIdInRange(TenantContext.getTeacherId(), studentId, from.atStartOfDay(), to.plusDays(1).atStartOfDay(), NEWEST_FIRST).stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<MonthlyRevenueDto> getMonthlyRevenue(String fromPeriod, String toPeriod) {
+        log.info("Fetching monthly revenue from {} to {}", fromPeriod, toPeriod);
+        return paymentRollupRepository.summarizeByPeriod(TenantContext.getTeacherId(), parsePeriod(fromPeriod).toString(), parsePeriod(toPeriod).toString()).stream()
+                .map(this::mapRevenueToDto)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<StudentBalanceDto> getOutstandingBalances(String period) {
+        log.info("Fetching outstanding balances for period: {}", period);
+        return paymentRollupRepository.findByTeacherIdAndPeriodAndOutstandingGreaterThanOrderByOutstandingDesc(TenantContext.getTeacherId(), parsePeriod(period).toString(), BigDecimal.ZERO).stream()
+                .map(this::mapBalanceToDto)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<StudentBalanceDto> getStudentBalances(String studentId) {
+        log.info("Fetching balances for student: {}", studentId);
+        return paymentRollupRepository.findByTeacherIdAndStudentIdOrderByPeriodDesc(TenantContext.getTeacherId(), studentId).stream()
+                .map(this::mapBalanceToDto)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public void openPeriod(String period) {
+        log.info("Opening billing period: {}", period);
+        paymentRollupRepository.openPeriod(parsePeriod(period).toString());
+    }
+    
+    private YearMonth parsePeriod(String period) {
+        try {
+            return YearMonth.parse(period);
+        } catch (DateTimeParseException e) {
+            throw new RuntimeException("Invalid period " + period + ", expected yyyy-MM");
+        }
+    }
+    
+    private PaymentDto mapToDto(Payment payment) {
+        return PaymentDto.builder()
+                .id(payment.getId())
+                .studentId(payment.getStudentId())
+                .date(payment.getDate())
+                .amount(toAmount(payment.getAmount()))
+                .method(payment.getMethod())
+                .reference(payment.getReference())
+                .status(payment.getStatus())
+                .period(payment.getPeriod())
+                .notes(payment.getNotes())
+                .build();
+    }
+    
+    private MonthlyRevenueDto mapRevenueToDto(MonthlyRevenue revenue) {
+        return MonthlyRevenueDto.builder()
+                .period(revenue.getPeriod())
+                .students(revenue.getStudents())
+                .payments(revenue.getPayments())
+                .expected(toAmount(revenue.getExpected()))
+                .paid(toAmount(revenue.getPaid()))
+                .outstanding(toAmount(revenue.getOutstanding()))
+                .build();
+    }
+    
+    private StudentBalanceDto mapBalanceToDto(PaymentRollup rollup) {
+        return StudentBalanceDto.builder()
+                .studentId(rollup.getStudentId())
+                .period(rollup.getPeriod())
+                .expected(toAmount(rollup.getExpected()))
+                .paid(toAmount(rollup.getPaid()))
+                .outstanding(toAmount(rollup.getOutstanding()))
+                .payments(rollup.getPayments())
+                .build();
+    }
+    
+    // Money is stored as Decimal128, the API keeps exchanging plain JSON numbers
+    private static BigDecimal toMoney(Double amount) {
+        return amount != null ? BigDecimal.valueOf(amount) : null;
+    }
+    
+    private static Double toAmount(BigDecimal amount) {
+        return amount != null ? amount.doubleValue() : null;
+    }
+}
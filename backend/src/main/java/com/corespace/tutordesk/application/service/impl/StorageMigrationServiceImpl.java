@@ -0,0 +1,146 @@
+package com.corespace.tutordesk.application.service.impl;
+
+import com.corespace.tutordesk.application.dto.StorageMigrationStatusDto;
+import com.corespace.tutordesk.application.service.AnalyticsService;
+import com.corespace.tutordesk.application.service.StorageMigrationService;
+import com.corespace.tutordesk.domain.entity.MigrationCheckpoint;
+import com.corespace.tutordesk.infrastructure.repository.StorageMigrationRepository;
+import com.corespace.tutordesk.infrastructure.repository.StudentArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StorageMigrationServiceImpl implements StorageMigrationService {
+    
+    private static final Map<String, List<Document>> PIPELINES = new LinkedHashMap<>();
+    
+    static {
+        PIPELINES.put("students", StorageMigrationRepository.studentPipeline());
+        PIPELINES.put(StudentArchiveRepository.ARCHIVE_COLLECTION, StorageMigrationRepository.studentPipeline());
+        PIPELINES.put("payment_monthly_rollups", StorageMigrationRepository.paymentRollupPipeline());
+    }
+    
+    private static final Set<String> WITH_PROGRESS = Set.of("students", StudentArchiveRepository.ARCHIVE_COLLECTION);
+    
+    private final StorageMigrationRepository storageMigrationRepository;
+    private final AnalyticsService analyticsService;
+    
+    @Value("${app.storage-migration.batch-size:500}")
+    private int batchSize;
+    
+    @Value("${app.storage-migration.pause-ms:50}")
+    private long pauseMs;
+    
+    @Override
+    public synchronized List<StorageMigrationStatusDto> runMigration() {
+        for (Map.Entry<String, List<Document>> entry : PIPELINES.entrySet()) {
+            migrateCollection(entry.getKey(), entry.getValue());
+        }
+        return getStatus();
+    }
+    
+    @Override
+    public List<StorageMigrationStatusDto> getStatus() {
+        return PIPELINES.keySet().stream()
+                .map(collection -> {
+                    MigrationCheckpoint checkpoint = storageMigrationRepository.findCheckpoint(collection);
+                    return checkpoint != null ? mapToDto(checkpoint) : StorageMigrationStatusDto.builder()
+                            .collection(collection)
+                            .migrated(0L)
+                            .completed(false)
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+    
+    // Resumes after the last checkpointed _id, so a restart only repeats the batch that was in flight
+    private void migrateCollection(String collection, List<Document> pipeline) {
+        MigrationCheckpoint checkpoint = storageMigrationRepository.findCheckpoint(collection);
+        if (checkpoint != null && checkpoint.getCompletedAt() != null) {
+            return;
+        }
+        if (checkpoint == null) {
+            checkpoint = MigrationCheckpoint.builder()
+                    .id(StorageMigrationRepository.MIGRATION + ":" + collection)
+                    .collection(collection)
+                    .migrated(0L)
+                    .startedAt(LocalDateTime.now())
+                    .build();
+        }
+        
+        log.info("Migrating {} to compact storage, resuming after {}", collection, checkpoint.getLastId());
+        List<Object> ids;
+        do {
+            ids = storageMigrationRepository.findIdsAfter(collection, checkpoint.getLastId(), batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            
+            if (WITH_PROGRESS.contains(collection)) {
+                storageMigrationRepository.assignProgressEntryIds(collection, ids);
+            }
+            long converted = storageMigrationRepository.convert(collection, ids, pipeline);
+            checkpoint.setLastId(ids.get(ids.size() - 1));
+            checkpoint.setMigrated(checkpoint.getMigrated() + converted);
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            storageMigrationRepository.saveCheckpoint(checkpoint);
+            log.debug("Migrated {} of {} documents in {}", converted, ids.size(), collection);
+            
+            if (!pause()) {
+                return;
+            }
+        } while (ids.size() == batchSize);
+        
+        // Level and status change without updated_at, so only a full refresh sees them; a failed one is retried next run
+        if (collection.equals("students")) {
+            log.info("Students migrated, rebuilding analytics");
+            analyticsService.refresh(true);
+        }
+        
+        checkpoint.setCompletedAt(LocalDateTime.now());
+        checkpoint.setUpdatedAt(checkpoint.getCompletedAt());
+        storageMigrationRepository.saveCheckpoint(checkpoint);
+        log.info("Migrated {} documents in {} to compact storage", checkpoint.getMigrated(), collection);
+    }
+    
+    // Leaves room between batches for API traffic on the same collection
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Storage migration interrupted, progress is kept in the checkpoint");
+            return false;
+        }
+    }
+    
+    private StorageMigrationStatusDto mapToDto(MigrationCheckpoint checkpoint) {
+        Object lastId = checkpoint.getLastId();
+        return StorageMigrationStatusDto.builder()
+                .collection(checkpoint.getCollection())
+                .migrated(checkpoint.getMigrated())
+                .lastId(lastId instanceof ObjectId ? ((ObjectId) lastId).toHexString() : lastId != null ? lastId.toString() : null)
+                .completed(checkpoint.getCompletedAt() != null)
+                .startedAt(checkpoint.getStartedAt())
+                .updatedAt(checkpoint.getUpdatedAt())
+                .completedAt(checkpoint.getCompletedAt())
+                .build();
+    }
+}
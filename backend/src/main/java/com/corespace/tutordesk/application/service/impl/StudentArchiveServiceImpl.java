@@ -0,0 +1,104 @@
+package com.corespace.tutordesk.application.service.impl;
+
+import com.corespace.tutordesk.application.dto.ArchiveRunDto;
+import com.corespace.tutordesk.application.dto.StudentDto;
+import com.corespace.tutordesk.application.service.StudentArchiveService;
+import com.corespace.tutordesk.application.service.StudentService;
+import com.corespace.tutordesk.domain.entity.Student;
+import com.corespace.tutordesk.infrastructure.repository.AnalyticsRepository;
+import com.corespace.tutordesk.infrastructure.repository.StudentArchiveRepository;
+import com.corespace.tutordesk.infrastructure.repository.StudentRepository;
+import com.corespace.tutordesk.infrastructure.tenant.TenantContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StudentArchiveServiceImpl implements StudentArchiveService {
+    
+    private final StudentRepository studentRepository;
+    private final StudentArchiveRepository studentArchiveRepository;
+    private final AnalyticsRepository analyticsRepository;
+    private final StudentService studentService;
+    
+    @Value("${app.archival.batch-size:500}")
+    private int batchSize;
+    
+    @Value("${app.archival.graduated-after-days:30}")
+    private int graduatedAfterDays;
+    
+    @Value("${app.archival.inactive-after-days:180}")
+    private int inactiveAfterDays;
+    
+    @Override
+    public synchronized ArchiveRunDto archiveStudents() {
+        LocalDateTime executedAt = LocalDateTime.now();
+        LocalDateTime graduatedBefore = executedAt.minusDays(graduatedAfterDays);
+        LocalDateTime inactiveBefore = executedAt.minusDays(inactiveAfterDays);
+        
+        long archived = 0;
+        int batches = 0;
+        List<String> ids;
+        do {
+            ids = studentArchiveRepository.findArchivableIds(graduatedBefore, inactiveBefore, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            
+            studentArchiveRepository.copyToArchive(ids, executedAt);
+            long removed = studentArchiveRepository.removeFromHot(ids, graduatedBefore, inactiveBefore, executedAt);
+            List<String> gone = ids;
+            if (removed < ids.size()) {
+                Set<String> stillHot = studentArchiveRepository.findHotIds(ids);
+                studentArchiveRepository.discardCopies(stillHot);
+                gone = ids.stream().filter(id -> !stillHot.contains(id)).collect(Collectors.toList());
+            }
+            analyticsRepository.recordRemovedStudents(gone, executedAt);
+            
+            archived += removed;
+            batches++;
+            log.debug("Archive batch {}: {} students", batches, removed);
+        } while (ids.size() == batchSize);
+        
+        log.info("Archived {} students in {} batches", archived, batches);
+        return ArchiveRunDto.builder()
+                .archived(archived)
+                .batches(batches)
+                .graduatedBefore(graduatedBefore)
+                .inactiveBefore(inactiveBefore)
+                .executedAt(executedAt)
+                .build();
+    }
+    
+    @Override
+    public StudentDto restoreStudent(String id) {
+        log.info("Restoring archived student: {}", id);
+        String teacherId = TenantContext.getTeacherId();
+        Student student = studentArchiveRepository.findArchived(teacherId, id)
+                .orElseThrow(() -> new RuntimeException("Archived student not found with id: " + id));
+        
+        // A run interrupted before its delete can leave the student in both collections
+        if (!studentRepository.existsByTeacherIdAndId(teacherId, id)) {
+            if (studentRepository.findByTeacherIdAndEmail(teacherId, student.getEmail()).isPresent()) {
+                throw new RuntimeException("Student with email " + student.getEmail() + " already exists");
+            }
+            
+            // Fresh timestamps keep it from being archived again on the next run
+            LocalDateTime restoredAt = LocalDateTime.now();
+            student.setUpdatedAt(restoredAt);
+            student.setStatusChangedAt(restoredAt);
+            studentRepository.insert(student);
+        }
+        
+        studentArchiveRepository.removeArchived(teacherId, id);
+        return studentService.getStudentById(id);
+    }
+}
@@ -0,0 +1,86 @@
+package com.corespace.tutordesk.application.service.impl;
+
+import com.corespace.tutordesk.application.dto.StatusTransitionDto;
+import com.corespace.tutordesk.application.service.StudentLifecycleService;
+import com.corespace.tutordesk.domain.entity.StatusTransition;
+import com.corespace.tutordesk.domain.entity.Student;
+import com.corespace.tutordesk.infrastructure.repository.StatusTransitionRepository;
+import com.corespace.tutordesk.infrastructure.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StudentLifecycleServiceImpl implements StudentLifecycleService {
+    
+    private final StudentRepository studentRepository;
+    private final StatusTransitionRepository statusTransitionRepository;
+    
+    @Value("${app.lifecycle.inactive-grace-days:30}")
+    private int inactiveGraceDays;
+    
+    @Override
+    public synchronized List<StatusTransitionDto> applyStatusTransitions() {
+        LocalDate today = LocalDate.now();
+        LocalDateTime executedAt = LocalDateTime.now();
+        
+        StatusTransition expired = StatusTransition.builder()
+                .rule("subscription-expired")
+                .fromStatus(Student.StudentStatus.ACTIVE)
+                .toStatus(Student.StudentStatus.INACTIVE)
+                .expiredBefore(today)
+                .executedAt(executedAt)
+                .build();
+        expired.setAffected(studentRepository.updateStatusWhereExpiredBefore(
+                expired.getFromStatus(), expired.getToStatus(), expired.getExpiredBefore(), executedAt));
+        
+        // The grace period starts when the student became INACTIVE, so a student moved by the rule above waits it out
+        StatusTransition lapsed = StatusTransition.builder()
+                .rule("inactive-grace-period-elapsed")
+                .fromStatus(Student.StudentStatus.INACTIVE)
+                .toStatus(Student.StudentStatus.SUSPENDED)
+                .expiredBefore(today.minusDays(inactiveGraceDays))
+                .changedBefore(executedAt.minusDays(inactiveGraceDays))
+                .executedAt(executedAt)
+                .build();
+        lapsed.setAffected(studentRepository.updateStatusWhereChangedBefore(
+                lapsed.getFromStatus(), lapsed.getToStatus(), lapsed.getChangedBefore(), lapsed.getExpiredBefore(), executedAt));
+        
+        return List.of(record(expired), record(lapsed));
+    }
+    
+    @Override
+    public List<StatusTransitionDto> getTransitionHistory(int limit) {
+        log.info("Fetching last {} status transitions", limit);
+        return statusTransitionRepository.findAllByOrderByExecutedAtDesc(PageRequest.of(0, limit)).stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+    
+    private StatusTransitionDto record(StatusTransition transition) {
+        log.info("Lifecycle rule {}: {} students moved from {} to {}",
+                transition.getRule(), transition.getAffected(), transition.getFromStatus(), transition.getToStatus());
+        return mapToDto(statusTransitionRepository.save(transition));
+    }
+    
+    private StatusTransitionDto mapToDto(StatusTransition transition) {
+        return StatusTransitionDto.builder()
+                .rule(transition.getRule())
+                .fromStatus(transition.getFromStatus())
+                .toStatus(transition.getToStatus())
+                .expiredBefore(transition.getExpiredBefore())
+                .changedBefore(transition.getChangedBefore())
+                .affected(transition.getAffected())
+                .executedAt(transition.getExecutedAt())
+                .build();
+    }
+}
@@ -1,19 +1,41 @@
 package com.corespace.tutordesk.application.service.impl;
 
+import com.corespace.tutordesk.application.dto.BulkGradeResultDto;
 import com.corespace.tutordesk.application.dto.CreateStudentRequest;
+import com.corespace.tutordesk.application.dto.GradeEntryRequest;
+import com.corespace.tutordesk.application.dto.GradeOutcomeDto;
 import com.corespace.tutordesk.application.dto.ProgressEntryDto;
 import com.corespace.tutordesk.application.dto.StudentDto;
+import com.corespace.tutordesk.application.dto.UpdateProgressEntryRequest;
 import com.corespace.tutordesk.application.service.StudentService;
 import com.corespace.tutordesk.domain.entity.ProgressEntry;
 import com.corespace.tutordesk.domain.entity.Student;
+import com.corespace.tutordesk.infrastructure.replica.StudentReadRepository;
+import com.corespace.tutordesk.infrastructure.repository.AnalyticsRepository;
+import com.corespace.tutordesk.infrastructure.repository.StudentArchiveRepository;
 import com.corespace.tutordesk.infrastructure.repository.StudentRepository;
+import com.corespace.tutordesk.infrastructure.tenant.TenantContext;
+import com.mongodb.bulk.BulkWriteError;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Service;
 
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,28 +44,36 @@ import java.util.stream.Collectors;
 public class StudentServiceImpl implements StudentService {
     
     private final StudentRepository studentRepository;
+    private final StudentReadRepository studentReadRepository;
+    private final StudentArchiveRepository studentArchiveRepository;
+    private final AnalyticsRepository analyticsRepository;
+    private final Validator validator;
+    
+    @Value("${app.grading.max-batch-size:1000}")
+    private int maxGradingBatchSize;
     
     @Override
     public StudentDto createStudent(CreateStudentRequest request) {
         log.info("Creating new student: {}", request.getName());
+        String teacherId = TenantContext.getTeacherId();
         
-        // Check if email already exists
-        if (studentRepository.findByEmail(request.getEmail()).isPresent()) {
+        // Check if email already exists for this teacher
+        if (studentRepository.findByTeacherIdAndEmail(teacherId, request.getEmail()).isPresent()) {
             throw new RuntimeException("Student with email " + request.getEmail() + " already exists");
         }
         
         Student student = Student.builder()
+                .teacherId(teacherId)
                 .name(request.getName())
                 .email(request.getEmail())
                 .phone(request.getPhone())
                 .startDate(request.getStartDate())
-                .level(request.getLevel())
+                .level(Student.StudentLevel.normalize(request.getLevel()))
                 .status(Student.StudentStatus.ACTIVE)
-                .monthlyFee(request.getMonthlyFee())
+                .monthlyFee(toMoney(request.getMonthlyFee()))
                 .paymentDay(request.getPaymentDay())
                 .subscriptionExpiry(calculateSubscriptionExpiry(request.getStartDate()))
                 .notes(request.getNotes())
-                .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
         
@@ -54,15 +84,26 @@ public class StudentServiceImpl implements StudentService {
     @Override
     public StudentDto getStudentById(String id) {
         log.info("Fetching student with id: {}", id);
-        Student student = studentRepository.findById(id)
+        String teacherId = TenantContext.getTeacherId();
+        Optional<Student> student = studentRepository.findByTeacherIdAndId(teacherId, id);
+        if (student.isPresent()) {
+            return mapToDto(student.get());
+        }
+        
+        // Archived students stay readable by id
+        return studentArchiveRepository.findArchived(teacherId, id)
+                .map(archived -> {
+                    StudentDto dto = mapToDto(archived);
+                    dto.setArchived(true);
+                    return dto;
+                })
                 .orElseThrow(() -> new RuntimeException("Student not found with id: " + id));
-        return mapToDto(student);
     }
     
     @Override
     public List<StudentDto> getAllStudents() {
         log.info("Fetching all students");
-        return studentRepository.findAll().stream()
+        return studentReadRepository.findByTeacherId(TenantContext.getTeacherId()).stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
@@ -70,7 +111,7 @@ public class StudentServiceImpl implements StudentService {
     @Override
     public List<StudentDto> getStudentsByStatus(Student.StudentStatus status) {
         log.info("Fetching students with status: {}", status);
-        return studentRepository.findByStatus(status).stream()
+        return studentReadRepository.findByTeacherIdAndStatus(TenantContext.getTeacherId(), status.storedValues()).stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
@@ -79,15 +120,14 @@ public class StudentServiceImpl implements StudentService {
     @Override
     public StudentDto updateStudent(String id, CreateStudentRequest request) {
         log.info("Updating student with id: {}", id);
-        Student existingStudent = studentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Student not found with id: " + id));
+        Student existingStudent = findStudent(id);
         
         existingStudent.setName(request.getName());
         existingStudent.setEmail(request.getEmail());
         existingStudent.setPhone(request.getPhone());
         existingStudent.setStartDate(request.getStartDate());
-        existingStudent.setLevel(request.getLevel());
-        existingStudent.setMonthlyFee(request.getMonthlyFee());
+        existingStudent.setLevel(Student.StudentLevel.normalize(request.getLevel()));
+        existingStudent.setMonthlyFee(toMoney(request.getMonthlyFee()));
         existingStudent.setPaymentDay(request.getPaymentDay());
         existingStudent.setNotes(request.getNotes());
         existingStudent.setUpdatedAt(LocalDateTime.now());
@@ -99,26 +139,28 @@ public class StudentServiceImpl implements StudentService {
     @Override
     public void deleteStudent(String id) {
         log.info("Deleting student with id: {}", id);
-        if (!studentRepository.existsById(id)) {
+        String teacherId = TenantContext.getTeacherId();
+        if (studentRepository.deleteByTeacherIdAndId(teacherId, id) == 0) {
             throw new RuntimeException("Student not found with id: " + id);
         }
-        studentRepository.deleteById(id);
+        // The archiver may have copied the student just before it was deleted
+        studentArchiveRepository.removeArchived(teacherId, id);
+        analyticsRepository.recordRemovedStudents(List.of(id), LocalDateTime.now());
     }
     
     @Override
     public StudentDto addProgressEntry(String studentId, String topic, String description, Double grade, Double maxGrade, String comments) {
         log.info("Adding progress entry for student: {}", studentId);
-        Student student = studentRepository.findById(studentId)
-                .orElseThrow(() -> new RuntimeException("Student not found with id: " + studentId));
+        Student student = findStudent(studentId);
         
         ProgressEntry progressEntry = ProgressEntry.builder()
+                .id(new ObjectId())
                 .date(LocalDate.now())
                 .topic(topic)
                 .description(description)
                 .grade(grade)
                 .maxGrade(maxGrade)
                 .comments(comments)
-                .createdAt(LocalDateTime.now())
                 .build();
         
         if (student.getProgress() == null) {
@@ -132,11 +174,113 @@ public class StudentServiceImpl implements StudentService {
         return mapToDto(updatedStudent);
     }
     
+    @Override
+    public BulkGradeResultDto addProgressEntries(List<GradeEntryRequest> entries) {
+        log.info("Adding {} progress entries in bulk", entries.size());
+        if (entries.size() > maxGradingBatchSize) {
+            throw new RuntimeException("Bulk grading accepts at most " + maxGradingBatchSize + " entries, got " + entries.size());
+        }
+        
+        String teacherId = TenantContext.getTeacherId();
+        LocalDateTime now = LocalDateTime.now();
+        Map<Integer, GradeOutcomeDto> outcomes = new HashMap<>();
+        
+        // Write positions map back to indexes in the request, since invalid entries are not sent
+        List<Integer> positions = new ArrayList<>();
+        List<Pair<String, ProgressEntry>> writes = new ArrayList<>();
+        
+        for (int i = 0; i < entries.size(); i++) {
+            GradeEntryRequest entry = entries.get(i);
+            String violations = validate(entry);
+            if (violations != null) {
+                outcomes.put(i, outcome(i, entry, GradeOutcomeDto.Status.INVALID, violations));
+                continue;
+            }
+            positions.add(i);
+            writes.add(Pair.of(entry.getStudentId(), ProgressEntry.builder()
+                    .id(new ObjectId())
+                    .date(now.toLocalDate())
+                    .topic(entry.getTopic())
+                    .description(entry.getDescription())
+                    .grade(entry.getGrade())
+                    .maxGrade(entry.getMaxGrade())
+                    .comments(entry.getComments())
+                    .build()));
+        }
+        
+        if (!writes.isEmpty()) {
+            long matched;
+            try {
+                matched = studentRepository.pushProgressEntries(teacherId, writes, now).getMatchedCount();
+            } catch (BulkOperationException e) {
+                log.error("Bulk grading partially failed: {} errors", e.getErrors().size());
+                for (BulkWriteError error : e.getErrors()) {
+                    int index = positions.get(error.getIndex());
+                    outcomes.put(index, outcome(index, entries.get(index), GradeOutcomeDto.Status.FAILED, error.getMessage()));
+                }
+                matched = e.getResult().getMatchedCount();
+            }
+            
+            // Only look up which students exist when some updates matched nothing
+            Set<String> existing = matched < writes.size() - countFailed(outcomes)
+                    ? studentRepository.findExistingIds(teacherId, writes.stream().map(Pair::getFirst).collect(Collectors.toSet()))
+                    : null;
+            
+            for (int index : positions) {
+                if (outcomes.containsKey(index)) {
+                    continue;
+                }
+                GradeEntryRequest entry = entries.get(index);
+                if (existing != null && !existing.contains(entry.getStudentId())) {
+                    outcomes.put(index, outcome(index, entry, GradeOutcomeDto.Status.NOT_FOUND, "Student not found with id: " + entry.getStudentId()));
+                } else {
+                    outcomes.put(index, outcome(index, entry, GradeOutcomeDto.Status.APPLIED, null));
+                }
+            }
+        }
+        
+        List<GradeOutcomeDto> ordered = outcomes.values().stream()
+                .sorted(Comparator.comparingInt(GradeOutcomeDto::getIndex))
+                .collect(Collectors.toList());
+        int applied = (int) ordered.stream().filter(o -> o.getStatus() == GradeOutcomeDto.Status.APPLIED).count();
+        
+        return BulkGradeResultDto.builder()
+                .requested(entries.size())
+                .applied(applied)
+                .rejected(entries.size() - applied)
+                .outcomes(ordered)
+                .build();
+    }
+    
+    @Override
+    public ProgressEntryDto updateProgressEntry(String studentId, String entryId, UpdateProgressEntryRequest request) {
+        log.info("Updating progress entry {} for student: {}", entryId, studentId);
+        ProgressEntry changes = ProgressEntry.builder()
+                .topic(request.getTopic())
+                .description(request.getDescription())
+                .grade(request.getGrade())
+                .maxGrade(request.getMaxGrade())
+                .comments(request.getComments())
+                .build();
+        
+        return studentRepository.updateProgressEntry(TenantContext.getTeacherId(), studentId, toEntryId(entryId), changes, LocalDateTime.now())
+                .map(this::mapProgressToDto)
+                .orElseThrow(() -> new RuntimeException("Progress entry not found with id: " + entryId));
+    }
+    
+    @Override
+    public void deleteProgressEntry(String studentId, String entryId) {
+        log.info("Deleting progress entry {} for student: {}", entryId, studentId);
+        if (!studentRepository.removeProgressEntry(TenantContext.getTeacherId(), studentId, toEntryId(entryId), LocalDateTime.now())) {
+            throw new RuntimeException("Progress entry not found with id: " + entryId);
+        }
+    }
+    
     @Override
     public List<StudentDto> getStudentsWithExpiringSubscription(int daysBeforeExpiry) {
         log.info("Fetching students with expiring subscription in {} days", daysBeforeExpiry);
         LocalDate expiryDate = LocalDate.now().plusDays(daysBeforeExpiry);
-        return studentRepository.findActiveStudentsWithExpiringSubscription(expiryDate).stream()
+        return studentReadRepository.findActiveStudentsWithExpiringSubscription(TenantContext.getTeacherId(), expiryDate).stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
@@ -144,8 +288,7 @@ public class StudentServiceImpl implements StudentService {
     @Override
     public void updateSubscriptionExpiry(String studentId, int monthsToAdd) {
         log.info("Updating subscription expiry for student: {} by {} months", studentId, monthsToAdd);
-        Student student = studentRepository.findById(studentId)
-                .orElseThrow(() -> new RuntimeException("Student not found with id: " + studentId));
+        Student student = findStudent(studentId);
         
         LocalDate newExpiryDate = student.getSubscriptionExpiry().plusMonths(monthsToAdd);
         student.setSubscriptionExpiry(newExpiryDate);
@@ -154,6 +297,27 @@ public class StudentServiceImpl implements StudentService {
         studentRepository.save(student);
     }
     
+    @Override
+    public List<String> getTeacherIds() {
+        return studentRepository.findDistinctTeacherIds();
+    }
+    
+    private Student findStudent(String id) {
+        return studentRepository.findByTeacherIdAndId(TenantContext.getTeacherId(), id)
+                .orElseThrow(() -> new RuntimeException("Student not found with id: " + id));
+    }
+    
+    private static BigDecimal toMoney(Double amount) {
+        return amount != null ? BigDecimal.valueOf(amount) : null;
+    }
+    
+    private ObjectId toEntryId(String entryId) {
+        if (!ObjectId.isValid(entryId)) {
+            throw new RuntimeException("Progress entry not found with id: " + entryId);
+        }
+        return new ObjectId(entryId);
+    }
+    
     private LocalDate calculateSubscriptionExpiry(LocalDate startDate) {
         return startDate.plusMonths(1);
     }
@@ -167,7 +331,7 @@ public class StudentServiceImpl implements StudentService {
                 .startDate(student.getStartDate())
                 .level(student.getLevel())
                 .status(student.getStatus())
-                .monthlyFee(student.getMonthlyFee())
+                .monthlyFee(student.getMonthlyFee() != null ? student.getMonthlyFee().doubleValue() : null)
                 .paymentDay(student.getPaymentDay())
                 .subscriptionExpiry(student.getSubscriptionExpiry())
                 .progress(student.getProgress() != null ? student.getProgress().stream()
@@ -179,7 +343,7 @@ public class StudentServiceImpl implements StudentService {
     
     private ProgressEntryDto mapProgressToDto(ProgressEntry progress) {
         return ProgressEntryDto.builder()
-                .id(progress.hashCode() + "") // Simple ID generation for demo
+                .id(progress.getId() != null ? progress.getId().toHexString() : null)
                 .date(progress.getDate())
                 .topic(progress.getTopic())
                 .description(progress.getDescription())
@@ -189,4 +353,33 @@ public class StudentServiceImpl implements StudentService {
                 .build();
     }
 
+    
+    private String validate(GradeEntryRequest entry) {
+        if (entry == null) {
+            return "Entry is required";
+        }
+        Set<ConstraintViolation<GradeEntryRequest>> violations = validator.validate(entry);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+    
+    private static long countFailed(Map<Integer, GradeOutcomeDto> outcomes) {
+        return outcomes.values().stream()
+                .filter(o -> o.getStatus() == GradeOutcomeDto.Status.FAILED)
+                .count();
+    }
+    
+    private static GradeOutcomeDto outcome(int index, GradeEntryRequest entry, GradeOutcomeDto.Status status, String message) {
+        return GradeOutcomeDto.builder()
+                .index(index)
+                .studentId(entry != null ? entry.getStudentId() : null)
+                .status(status)
+                .message(message)
+                .build();
+    }
 }
@@ -0,0 +1,25 @@
+package com.corespace.tutordesk.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "analytics_watermarks")
+public class AnalyticsWatermark {
+    
+    @Id
+    private String id;
+    
+    @Field("last_refreshed_at")
+    private LocalDateTime lastRefreshedAt;
+}
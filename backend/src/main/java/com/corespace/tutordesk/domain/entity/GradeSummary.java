@@ -0,0 +1,42 @@
+package com.corespace.tutordesk.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "analytics_grade_by_level_topic")
+@CompoundIndex(name = "teacher_level_topic_idx", def = "{'teacher_id': 1, 'level': 1, 'topic': 1}")
+public class GradeSummary {
+    
+    @Id
+    private String id;
+    
+    @Field("teacher_id")
+    private String teacherId;
+    
+    @Field("level")
+    private String level;
+    
+    @Field("topic")
+    private String topic;
+    
+    @Field("average_grade")
+    private Double averageGrade;
+    
+    @Field("entries")
+    private Integer entries;
+    
+    @Field("refreshed_at")
+    private LocalDateTime refreshedAt;
+}
@@ -0,0 +1,42 @@
+package com.corespace.tutordesk.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "schema_migrations")
+public class MigrationCheckpoint {
+    
+    // migration:collection
+    @Id
+    private String id;
+    
+    @Field("collection")
+    private String collection;
+    
+    // _id of the last document converted, the next batch starts after it
+    @Field("last_id")
+    private Object lastId;
+    
+    @Field("migrated")
+    private Long migrated;
+    
+    @Field("started_at")
+    private LocalDateTime startedAt;
+    
+    @Field("updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Field("completed_at")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,36 @@
+package com.corespace.tutordesk.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyRevenue {
+    
+    @Id
+    private String period;
+    
+    @Field("students")
+    private Integer students;
+    
+    @Field("payments")
+    private Integer payments;
+    
+    @Field(value = "expected", targetType = FieldType.DECIMAL128)
+    private BigDecimal expected;
+    
+    @Field(value = "paid", targetType = FieldType.DECIMAL128)
+    private BigDecimal paid;
+    
+    @Field(value = "outstanding", targetType = FieldType.DECIMAL128)
+    private BigDecimal outstanding;
+}
@@ -0,0 +1,66 @@
+package com.corespace.tutordesk.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+import org.springframework.data.mongodb.core.mapping.TimeSeries;
+import org.springframework.data.mongodb.core.timeseries.Granularity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "payments")
+@TimeSeries(timeField = "date", metaField = "studentId", granularity = Granularity.HOURS)
+public class Payment {
+    
+    @Id
+    private String id;
+    
+    @Field("teacher_id")
+    private String teacherId;
+    
+    @Field("student_id")
+    private String studentId;
+    
+    @Field("date")
+    private LocalDateTime date;
+    
+    @Field(value = "amount", targetType = FieldType.DECIMAL128)
+    private BigDecimal amount;
+    
+    @Field("method")
+    private PaymentMethod method;
+    
+    @Field("reference")
+    private String reference;
+    
+    @Field("status")
+    private PaymentStatus status;
+    
+    // Billing month the payment is for, in yyyy-MM format
+    @Field("period")
+    private String period;
+    
+    @Field("notes")
+    private String notes;
+    
+    @Field("created_at")
+    private LocalDateTime createdAt;
+    
+    public enum PaymentMethod {
+        CASH, BANK_TRANSFER, CREDIT_CARD, DEBIT_CARD, PIX
+    }
+    
+    public enum PaymentStatus {
+        PENDING, COMPLETED, FAILED, CANCELLED
+    }
+}
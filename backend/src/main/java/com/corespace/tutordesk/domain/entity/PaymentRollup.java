@@ -0,0 +1,59 @@
+package com.corespace.tutordesk.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "payment_monthly_rollups")
+@CompoundIndexes({
+    @CompoundIndex(name = "teacher_period_outstanding_idx", def = "{'teacher_id': 1, 'period': 1, 'outstanding': -1}"),
+    @CompoundIndex(name = "teacher_student_period_idx", def = "{'teacher_id': 1, 'student_id': 1, 'period': 1}")
+})
+public class PaymentRollup {
+    
+    // studentId:period
+    @Id
+    private String id;
+    
+    @Field("teacher_id")
+    private String teacherId;
+    
+    @Field("student_id")
+    private String studentId;
+    
+    @Field("period")
+    private String period;
+    
+    @Field(value = "expected", targetType = FieldType.DECIMAL128)
+    private BigDecimal expected;
+    
+    @Field(value = "paid", targetType = FieldType.DECIMAL128)
+    private BigDecimal paid;
+    
+    @Field(value = "outstanding", targetType = FieldType.DECIMAL128)
+    private BigDecimal outstanding;
+    
+    @Field("payments")
+    private Integer payments;
+    
+    @Field("updated_at")
+    private LocalDateTime updatedAt;
+    
+    public static String idOf(String studentId, String period) {
+        return studentId + ":" + period;
+    }
+}
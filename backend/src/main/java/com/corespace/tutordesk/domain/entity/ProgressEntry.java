@@ -4,10 +4,13 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Field;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 @Data
 @Builder
@@ -15,6 +18,9 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class ProgressEntry {
     
+    @Id
+    private ObjectId id;
+    
     @Field("date")
     private LocalDate date;
     
@@ -33,6 +39,14 @@ public class ProgressEntry {
     @Field("comments")
     private String comments;
     
+    // Only kept for entries whose id was assigned after they were created, otherwise the ObjectId carries it
     @Field("created_at")
     private LocalDateTime createdAt;
+    
+    public LocalDateTime getCreatedAt() {
+        if (createdAt != null || id == null) {
+            return createdAt;
+        }
+        return LocalDateTime.ofInstant(id.getDate().toInstant(), ZoneId.systemDefault());
+    }
 }
@@ -0,0 +1,43 @@
+package com.corespace.tutordesk.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "analytics_retention_by_start_month")
+@CompoundIndex(name = "teacher_start_month_idx", def = "{'teacher_id': 1, 'start_month': 1}")
+public class RetentionSummary {
+    
+    @Id
+    private String id;
+    
+    @Field("teacher_id")
+    private String teacherId;
+    
+    // Start month in yyyy-MM format
+    @Field("start_month")
+    private String startMonth;
+    
+    @Field("students")
+    private Integer students;
+    
+    @Field("active_students")
+    private Integer activeStudents;
+    
+    @Field("retention_rate")
+    private Double retentionRate;
+    
+    @Field("refreshed_at")
+    private LocalDateTime refreshedAt;
+}
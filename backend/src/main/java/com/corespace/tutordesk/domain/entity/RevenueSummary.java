@@ -0,0 +1,44 @@
+package com.corespace.tutordesk.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "analytics_revenue_by_level")
+@CompoundIndex(name = "teacher_level_idx", def = "{'teacher_id': 1, 'level': 1}")
+public class RevenueSummary {
+    
+    @Id
+    private String id;
+    
+    @Field("teacher_id")
+    private String teacherId;
+    
+    @Field("level")
+    private String level;
+    
+    @Field("students")
+    private Integer students;
+    
+    @Field("active_students")
+    private Integer activeStudents;
+    
+    @Field(value = "monthly_revenue", targetType = FieldType.DECIMAL128)
+    private BigDecimal monthlyRevenue;
+    
+    @Field("refreshed_at")
+    private LocalDateTime refreshedAt;
+}
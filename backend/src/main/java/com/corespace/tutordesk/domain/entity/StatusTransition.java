@@ -0,0 +1,48 @@
+package com.corespace.tutordesk.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "student_status_transitions")
+public class StatusTransition {
+    
+    @Id
+    private String id;
+    
+    @Field("rule")
+    private String rule;
+    
+    @Field("from_status")
+    private Student.StudentStatus fromStatus;
+    
+    @Field("to_status")
+    private Student.StudentStatus toStatus;
+    
+    // Students whose subscription expired before this date were transitioned
+    @Field("expired_before")
+    private LocalDate expiredBefore;
+    
+    // Students that entered the from status before this time were transitioned
+    @Field("changed_before")
+    private LocalDateTime changedBefore;
+    
+    @Field("affected")
+    private Long affected;
+    
+    @Indexed(name = "executed_at_idx")
+    @Field("executed_at")
+    private LocalDateTime executedAt;
+}
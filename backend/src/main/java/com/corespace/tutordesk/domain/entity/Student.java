@@ -3,25 +3,52 @@ package com.corespace.tutordesk.domain.entity;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+import org.springframework.data.mongodb.core.mapping.Sharded;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "students")
+@Sharded(shardKey = {"teacherId"}, immutableKey = true)
+@CompoundIndexes({
+    @CompoundIndex(name = "teacher_id_1__id_1", def = "{'teacher_id': 1, '_id': 1}"),
+    @CompoundIndex(name = "teacher_email_idx", def = "{'teacher_id': 1, 'email': 1}", unique = true),
+    @CompoundIndex(name = "teacher_status_expiry_idx", def = "{'teacher_id': 1, 'status': 1, 'subscription_expiry': 1}"),
+    @CompoundIndex(name = "status_1_subscription_expiry_1", def = "{'status': 1, 'subscription_expiry': 1}"),
+    @CompoundIndex(name = "status_updated_at_idx", def = "{'status': 1, 'updated_at': 1}"),
+    @CompoundIndex(name = "status_changed_at_idx", def = "{'status': 1, 'status_changed_at': 1}")
+})
 public class Student {
     
     @Id
     private String id;
     
+    // Tenant and shard key prefix, every student belongs to exactly one teacher
+    @Field("teacher_id")
+    private String teacherId;
+    
     @Field("name")
     private String name;
     
@@ -40,8 +67,12 @@ public class Student {
     @Field("status")
     private StudentStatus status;
     
-    @Field("monthly_fee")
-    private Double monthlyFee;
+    // Written by the lifecycle transitions, grace periods are measured from it
+    @Field("status_changed_at")
+    private LocalDateTime statusChangedAt;
+    
+    @Field(value = "monthly_fee", targetType = FieldType.DECIMAL128)
+    private BigDecimal monthlyFee;
     
     @Field("payment_day")
     private Integer paymentDay;
@@ -55,17 +86,75 @@ public class Student {
     @Field("notes")
     private String notes;
     
+    @Indexed(name = "updated_at_idx")
+    @Field("updated_at")
+    private LocalDateTime updatedAt;
+    
+    // Only kept for students whose id does not carry their creation time, new ones never set it
     @Field("created_at")
     private LocalDateTime createdAt;
     
-    @Field("updated_at")
-    private LocalDateTime updatedAt;
+    public LocalDateTime getCreatedAt() {
+        if (createdAt != null || id == null || !ObjectId.isValid(id)) {
+            return createdAt;
+        }
+        return LocalDateTime.ofInstant(new ObjectId(id).getDate().toInstant(), ZoneId.systemDefault());
+    }
     
+    /**
+     * Stored as its code (see MongoStorageConfig). Codes are persisted and
+     * must never be reused or renumbered.
+     */
+    @Getter
+    @RequiredArgsConstructor
     public enum StudentStatus {
-        ACTIVE, INACTIVE, SUSPENDED, GRADUATED
+        ACTIVE(1), INACTIVE(2), SUSPENDED(3), GRADUATED(4);
+        
+        private final int code;
+        
+        public static StudentStatus fromCode(int code) {
+            return Arrays.stream(values())
+                    .filter(status -> status.code == code)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown student status code: " + code));
+        }
+        
+        // Documents not yet rewritten by the compact storage migration still hold the name
+        public List<Object> storedValues() {
+            return List.of(code, name());
+        }
     }
 
+    @Getter
+    @RequiredArgsConstructor
     public enum StudentLevel {
-        BEGINNER, INTERMEDIARY, ADVANCED
+        BEGINNER(Set.of("BEGINNER", "BASIC", "ELEMENTARY", "A1", "A2")),
+        INTERMEDIARY(Set.of("INTERMEDIARY", "INTERMEDIATE", "B1", "B2")),
+        ADVANCED(Set.of("ADVANCED", "PROFICIENT", "C1", "C2"));
+        
+        private final Set<String> aliases;
+        
+        /**
+         * Maps free-text levels onto the canonical names, so "Beginner " and
+         * "A2" are stored and grouped the same. Unknown levels are only trimmed.
+         */
+        public static String normalize(String level) {
+            if (level == null || level.isBlank()) {
+                return null;
+            }
+            return fromAlias(level)
+                    .map(Enum::name)
+                    .orElse(level.trim());
+        }
+        
+        public static Optional<StudentLevel> fromAlias(String level) {
+            if (level == null) {
+                return Optional.empty();
+            }
+            String key = level.trim().toUpperCase(Locale.ROOT);
+            return Arrays.stream(values())
+                    .filter(value -> value.aliases.contains(key))
+                    .findFirst();
+        }
     }
 }
@@ -0,0 +1,19 @@
+package com.corespace.tutordesk.infrastructure.admission;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Puts a controller, or a single handler method, under admission control.
+ * A method annotation overrides the one on its controller.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface AdmissionClass {
+    
+    CostClass value();
+}
@@ -0,0 +1,73 @@
+package com.corespace.tutordesk.infrastructure.admission;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+
+/**
+ * Applies the limiter of the handler's {@link CostClass}. Clients are told
+ * when to come back through Retry-After: 429 when they exceeded their own
+ * rate, 503 when the class as a whole is saturated.
+ *
+ * Rate buckets are keyed on the remote address. The tenant header is not a
+ * usable key: browsers do not send it, so every one of them would share the
+ * default teacher's bucket, and a client could rotate it to get fresh ones.
+ * Behind a proxy, server.forward-headers-strategy has to be set for the
+ * remote address to be the client's.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+    
+    private static final String PERMIT_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".permit";
+    
+    private final Map<CostClass, AdmissionLimiter> limiters;
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        CostClass costClass = costClassOf((HandlerMethod) handler);
+        if (costClass == null) {
+            return true;
+        }
+        
+        AdmissionLimiter limiter = limiters.get(costClass);
+        AdmissionLimiter.Decision decision = limiter.acquire(request.getRemoteAddr());
+        if (decision.isAdmitted()) {
+            request.setAttribute(PERMIT_ATTRIBUTE, limiter);
+            return true;
+        }
+        
+        AdmissionLimiter.Rejection rejection = decision.getRejection();
+        log.warn("Rejected {} {} ({}, {})", request.getMethod(), request.getRequestURI(), costClass, rejection.getReason());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.getRetryAfterSeconds()));
+        response.sendError(rejection.getStatus().value(), "Request rejected by admission control: " + rejection.getReason());
+        return false;
+    }
+    
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object limiter = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (limiter instanceof AdmissionLimiter) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            ((AdmissionLimiter) limiter).release();
+        }
+    }
+    
+    private static CostClass costClassOf(HandlerMethod handlerMethod) {
+        AdmissionClass admissionClass = handlerMethod.getMethodAnnotation(AdmissionClass.class);
+        if (admissionClass == null) {
+            admissionClass = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), AdmissionClass.class);
+        }
+        return admissionClass != null ? admissionClass.value() : null;
+    }
+}
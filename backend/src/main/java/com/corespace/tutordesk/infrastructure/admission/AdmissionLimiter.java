@@ -0,0 +1,159 @@
+package com.corespace.tutordesk.infrastructure.admission;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admission control for one cost class. A request first takes a token from
+ * its client's bucket, then a concurrency permit. When no permit is free it
+ * waits in a bounded queue for at most maxWaitMillis; anything beyond that is
+ * rejected right away instead of holding a servlet thread.
+ */
+public class AdmissionLimiter {
+    
+    private static final int MAX_TRACKED_CLIENTS = 10_000;
+    
+    @Getter
+    private final CostClass costClass;
+    private final Limits limits;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong admitted = new AtomicLong();
+    private final Map<Rejection, AtomicLong> rejected = new EnumMap<>(Rejection.class);
+    
+    public AdmissionLimiter(CostClass costClass, Limits limits) {
+        this.costClass = costClass;
+        this.limits = limits;
+        this.permits = new Semaphore(limits.getMaxConcurrent(), true);
+        for (Rejection rejection : Rejection.values()) {
+            rejected.put(rejection, new AtomicLong());
+        }
+    }
+    
+    public Decision acquire(String clientId) throws InterruptedException {
+        long now = System.nanoTime();
+        long nanosUntilToken = bucket(clientId, now).tryConsume(now);
+        if (nanosUntilToken > 0) {
+            return reject(Rejection.RATE_LIMITED, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanosUntilToken + 999_999_999)));
+        }
+        
+        if (permits.tryAcquire()) {
+            return admit();
+        }
+        
+        if (queued.incrementAndGet() > limits.getMaxQueue()) {
+            queued.decrementAndGet();
+            return reject(Rejection.QUEUE_FULL, limits.getRetryAfterSeconds());
+        }
+        try {
+            if (permits.tryAcquire(limits.getMaxWaitMillis(), TimeUnit.MILLISECONDS)) {
+                return admit();
+            }
+        } finally {
+            queued.decrementAndGet();
+        }
+        return reject(Rejection.QUEUE_TIMEOUT, limits.getRetryAfterSeconds());
+    }
+    
+    public void release() {
+        permits.release();
+    }
+    
+    public int getQueueDepth() {
+        return queued.get();
+    }
+    
+    public int getInFlight() {
+        return limits.getMaxConcurrent() - permits.availablePermits();
+    }
+    
+    public long getAdmittedCount() {
+        return admitted.get();
+    }
+    
+    public long getRejectedCount(Rejection rejection) {
+        return rejected.get(rejection).get();
+    }
+    
+    private TokenBucket bucket(String clientId, long now) {
+        if (buckets.size() >= MAX_TRACKED_CLIENTS) {
+            // A full bucket behaves exactly like a new one, so dropping it loses nothing
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+        return buckets.computeIfAbsent(clientId,
+                id -> new TokenBucket(limits.getBurst(), limits.getRequestsPerSecond(), now));
+    }
+    
+    private Decision admit() {
+        admitted.incrementAndGet();
+        return new Decision(null, 0);
+    }
+    
+    private Decision reject(Rejection rejection, long retryAfterSeconds) {
+        rejected.get(rejection).incrementAndGet();
+        return new Decision(rejection, retryAfterSeconds);
+    }
+    
+    @Getter
+    @RequiredArgsConstructor
+    public enum Rejection {
+        RATE_LIMITED("rate-limited", HttpStatus.TOO_MANY_REQUESTS),
+        QUEUE_FULL("queue-full", HttpStatus.SERVICE_UNAVAILABLE),
+        QUEUE_TIMEOUT("queue-timeout", HttpStatus.SERVICE_UNAVAILABLE);
+        
+        private final String reason;
+        private final HttpStatus status;
+    }
+    
+    @Getter
+    @RequiredArgsConstructor
+    public static class Decision {
+        
+        // Null when the request was admitted
+        private final Rejection rejection;
+        private final long retryAfterSeconds;
+        
+        public boolean isAdmitted() {
+            return rejection == null;
+        }
+    }
+    
+    @Data
+    @Builder
+    @AllArgsConstructor
+    public static class Limits {
+        
+        private int maxConcurrent;
+        private int maxQueue;
+        private long maxWaitMillis;
+        private double requestsPerSecond;
+        private int burst;
+        private long retryAfterSeconds;
+        
+        public static Limits of(CostClass costClass, Environment environment) {
+            String prefix = costClass.propertyPrefix();
+            return Limits.builder()
+                    .maxConcurrent(environment.getProperty(prefix + "max-concurrent", Integer.class, costClass.getMaxConcurrent()))
+                    .maxQueue(environment.getProperty(prefix + "max-queue", Integer.class, costClass.getMaxQueue()))
+                    .maxWaitMillis(environment.getProperty(prefix + "max-wait-ms", Long.class, costClass.getMaxWaitMillis()))
+                    .requestsPerSecond(environment.getProperty(prefix + "requests-per-second", Double.class, costClass.getRequestsPerSecond()))
+                    .burst(environment.getProperty(prefix + "burst", Integer.class, costClass.getBurst()))
+                    .retryAfterSeconds(environment.getProperty(prefix + "retry-after-seconds", Long.class, costClass.getRetryAfterSeconds()))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.corespace.tutordesk.infrastructure.admission;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Publishes queue depth, in-flight requests and admission outcomes per cost
+ * class, under /actuator/metrics/admission.*.
+ */
+@RequiredArgsConstructor
+public class AdmissionMetrics implements MeterBinder {
+    
+    private final Map<CostClass, AdmissionLimiter> limiters;
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        limiters.forEach((costClass, limiter) -> {
+            Tags tags = Tags.of("class", costClass.name().toLowerCase());
+            
+            Gauge.builder("admission.queue.depth", limiter, AdmissionLimiter::getQueueDepth)
+                    .description("Requests waiting for a concurrency permit")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("admission.in.flight", limiter, AdmissionLimiter::getInFlight)
+                    .description("Requests holding a concurrency permit")
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("admission.admitted", limiter, AdmissionLimiter::getAdmittedCount)
+                    .tags(tags)
+                    .register(registry);
+            
+            for (AdmissionLimiter.Rejection rejection : AdmissionLimiter.Rejection.values()) {
+                FunctionCounter.builder("admission.rejected", limiter, l -> l.getRejectedCount(rejection))
+                        .tags(tags.and("reason", rejection.getReason()))
+                        .register(registry);
+            }
+        });
+    }
+}
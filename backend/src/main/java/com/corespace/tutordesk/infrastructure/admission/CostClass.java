@@ -0,0 +1,35 @@
+package com.corespace.tutordesk.infrastructure.admission;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Groups endpoints by how much they cost to serve. Each class gets its own
+ * concurrency limit, queue and per-client rate, so a burst of expensive calls
+ * cannot take the threads the cheap ones need. The values here are defaults,
+ * overridable under app.admission.&lt;class&gt;.*.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CostClass {
+    
+    // Single document lookups by id
+    CHEAP(64, 128, 100, 50, 100, 1),
+    
+    // Single document writes
+    STANDARD(32, 64, 250, 20, 40, 1),
+    
+    // Collection scans, bulk writes and calls that wait on SMTP
+    HEAVY(8, 16, 1000, 2, 5, 5);
+    
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long maxWaitMillis;
+    private final double requestsPerSecond;
+    private final int burst;
+    private final long retryAfterSeconds;
+    
+    public String propertyPrefix() {
+        return "app.admission." + name().toLowerCase() + ".";
+    }
+}
@@ -0,0 +1,45 @@
+package com.corespace.tutordesk.infrastructure.config;
+
+import com.corespace.tutordesk.infrastructure.admission.AdmissionControlInterceptor;
+import com.corespace.tutordesk.infrastructure.admission.AdmissionLimiter;
+import com.corespace.tutordesk.infrastructure.admission.AdmissionMetrics;
+import com.corespace.tutordesk.infrastructure.admission.CostClass;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "app.admission.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class AdmissionControlConfig implements WebMvcConfigurer {
+    
+    private final Map<CostClass, AdmissionLimiter> limiters;
+    
+    public AdmissionControlConfig(Environment environment) {
+        Map<CostClass, AdmissionLimiter> limiters = new EnumMap<>(CostClass.class);
+        for (CostClass costClass : CostClass.values()) {
+            AdmissionLimiter.Limits limits = AdmissionLimiter.Limits.of(costClass, environment);
+            log.info("Admission control for {}: {}", costClass, limits);
+            limiters.put(costClass, new AdmissionLimiter(costClass, limits));
+        }
+        this.limiters = Collections.unmodifiableMap(limiters);
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AdmissionControlInterceptor(limiters));
+    }
+    
+    @Bean
+    public AdmissionMetrics admissionMetrics() {
+        return new AdmissionMetrics(limiters);
+    }
+}
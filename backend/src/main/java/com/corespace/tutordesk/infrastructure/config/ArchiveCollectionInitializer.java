@@ -0,0 +1,39 @@
+package com.corespace.tutordesk.infrastructure.config;
+
+import com.corespace.tutordesk.infrastructure.repository.StudentArchiveRepository;
+import com.mongodb.client.model.CreateCollectionOptions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+/**
+ * The archive is rarely read, so it trades CPU for disk with zstd instead of
+ * the default snappy block compression. Storage options can only be set when
+ * the collection is created. Called by {@link MongoIndexReconciler}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArchiveCollectionInitializer {
+    
+    private final MongoTemplate mongoTemplate;
+    
+    public void createArchiveCollection() {
+        if (!mongoTemplate.collectionExists(StudentArchiveRepository.ARCHIVE_COLLECTION)) {
+            log.info("Creating compressed students archive collection");
+            mongoTemplate.getDb().createCollection(StudentArchiveRepository.ARCHIVE_COLLECTION, new CreateCollectionOptions()
+                    .storageEngineOptions(new Document("wiredTiger", new Document("configString", "block_compressor=zstd"))));
+        }
+    }
+    
+    public void ensureArchiveIndexes() {
+        mongoTemplate.indexOps(StudentArchiveRepository.ARCHIVE_COLLECTION).ensureIndex(new Index()
+                .on("teacher_id", Sort.Direction.ASC)
+                .on("archived_at", Sort.Direction.DESC)
+                .named("teacher_archived_at_idx"));
+    }
+}
@@ -0,0 +1,106 @@
+package com.corespace.tutordesk.infrastructure.config;
+
+import com.corespace.tutordesk.infrastructure.tenant.TenantBackfill;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the payments and archive collections and their indexes and, when
+ * spring.data.mongodb.auto-index-creation is off, the indexes declared on the
+ * entities.
+ *
+ * The collections are always created before the application is ready: a write
+ * that reached a missing one would create it with default options for good.
+ * Index builds run before that too in EAGER mode, like auto index creation
+ * does. BACKGROUND builds them on their own thread once the application is
+ * serving, so a new replica does not wait on them. OFF skips all of it.
+ *
+ * Documents written before multi-tenancy are assigned to the default teacher
+ * and the global email_1 index is dropped along with the index builds:
+ * before the application is ready in EAGER, on the background thread in
+ * BACKGROUND, not at all in OFF.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MongoIndexReconciler implements SmartInitializingSingleton {
+    
+    public enum Mode {
+        EAGER, BACKGROUND, OFF
+    }
+    
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mappingContext;
+    private final PaymentCollectionInitializer paymentCollectionInitializer;
+    private final ArchiveCollectionInitializer archiveCollectionInitializer;
+    private final TenantBackfill tenantBackfill;
+    
+    @Value("${app.mongodb.index-reconciliation:eager}")
+    private Mode mode;
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (mode == Mode.OFF) {
+            return;
+        }
+        
+        paymentCollectionInitializer.createPaymentCollection();
+        archiveCollectionInitializer.createArchiveCollection();
+        if (mode == Mode.EAGER) {
+            assignLegacyData();
+            reconcile();
+        }
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileInBackground() {
+        if (mode != Mode.BACKGROUND) {
+            return;
+        }
+        
+        Thread thread = new Thread(() -> {
+            try {
+                assignLegacyData();
+                reconcile();
+            } catch (Exception e) {
+                log.error("Background index reconciliation failed", e);
+            }
+        }, "mongo-index-reconciler");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    private void assignLegacyData() {
+        tenantBackfill.assignDefaultTeacher();
+        tenantBackfill.dropLegacyEmailIndex();
+    }
+    
+    public void reconcile() {
+        long started = System.currentTimeMillis();
+        paymentCollectionInitializer.ensurePaymentIndexes();
+        archiveCollectionInitializer.ensureArchiveIndexes();
+        
+        if (!mappingContext.isAutoIndexCreation()) {
+            MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+            for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+                if (entity.isAnnotationPresent(Document.class)) {
+                    IndexOperations indexOperations = mongoTemplate.indexOps(entity.getType());
+                    resolver.resolveIndexFor(entity.getType()).forEach(indexOperations::ensureIndex);
+                }
+            }
+        }
+        
+        log.info("Mongo indexes reconciled in {} ms", System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,76 @@
+package com.corespace.tutordesk.infrastructure.config;
+
+import com.corespace.tutordesk.infrastructure.consistency.CausalConsistencyFilter;
+import com.corespace.tutordesk.infrastructure.consistency.CausalSessionDatabaseFactory;
+import com.corespace.tutordesk.infrastructure.replica.StudentReadRepository;
+import com.corespace.tutordesk.infrastructure.repository.StudentRepository;
+import com.mongodb.ReadPreference;
+import com.mongodb.TagSet;
+import com.mongodb.client.MongoClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splits reads and writes across the replica set. Repositories in the
+ * repository package use the primary; those in the replica package read
+ * from members selected by app.mongodb.read-preference.
+ */
+@Configuration
+@EnableMongoRepositories(basePackageClasses = StudentRepository.class)
+@Slf4j
+public class MongoReadRoutingConfig {
+    
+    @Bean
+    @Primary
+    public MongoTemplate mongoTemplate(MongoDatabaseFactory mongoDatabaseFactory, MongoConverter mongoConverter) {
+        return new MongoTemplate(new CausalSessionDatabaseFactory(mongoDatabaseFactory), mongoConverter);
+    }
+    
+    @Bean
+    public MongoTemplate secondaryMongoTemplate(MongoDatabaseFactory mongoDatabaseFactory, MongoConverter mongoConverter,
+                                                @Value("${app.mongodb.read-preference:secondaryPreferred}") String readPreference,
+                                                @Value("${app.mongodb.max-staleness-seconds:90}") long maxStalenessSeconds) {
+        MongoTemplate template = new MongoTemplate(new CausalSessionDatabaseFactory(mongoDatabaseFactory), mongoConverter);
+        template.setReadPreference(readPreference(readPreference, maxStalenessSeconds));
+        return template;
+    }
+    
+    @Bean
+    @ConditionalOnProperty(name = "app.mongodb.causal-consistency.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<CausalConsistencyFilter> causalConsistencyFilter(MongoClient mongoClient) {
+        FilterRegistrationBean<CausalConsistencyFilter> registration = new FilterRegistrationBean<>(new CausalConsistencyFilter(mongoClient));
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 10);
+        return registration;
+    }
+    
+    private ReadPreference readPreference(String name, long maxStalenessSeconds) {
+        if ("primary".equalsIgnoreCase(name)) {
+            return ReadPreference.primary();
+        }
+        
+        // MongoDB rejects a max staleness below 90 seconds, 0 means no limit
+        ReadPreference readPreference = maxStalenessSeconds > 0
+                ? ReadPreference.valueOf(name, Collections.<TagSet>emptyList(), maxStalenessSeconds, TimeUnit.SECONDS)
+                : ReadPreference.valueOf(name);
+        log.info("Routing stale-tolerant reads with read preference {}", readPreference);
+        return readPreference;
+    }
+    
+    @Configuration
+    @EnableMongoRepositories(basePackageClasses = StudentReadRepository.class, mongoTemplateRef = "secondaryMongoTemplate")
+    static class ReplicaRepositoriesConfig {
+    }
+}
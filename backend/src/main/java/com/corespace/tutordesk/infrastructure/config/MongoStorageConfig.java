@@ -0,0 +1,44 @@
+package com.corespace.tutordesk.infrastructure.config;
+
+import com.corespace.tutordesk.domain.entity.Student;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+import java.util.List;
+
+/**
+ * Compact storage encodings. Student statuses are stored as small integer
+ * codes instead of their names; names written before the change still read.
+ */
+@Configuration
+public class MongoStorageConfig {
+    
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return new MongoCustomConversions(List.of(
+                new StudentStatusWriter(),
+                new StudentStatusReader()));
+    }
+    
+    @WritingConverter
+    static class StudentStatusWriter implements Converter<Student.StudentStatus, Integer> {
+        
+        @Override
+        public Integer convert(Student.StudentStatus source) {
+            return source.getCode();
+        }
+    }
+    
+    @ReadingConverter
+    static class StudentStatusReader implements Converter<Integer, Student.StudentStatus> {
+        
+        @Override
+        public Student.StudentStatus convert(Integer source) {
+            return Student.StudentStatus.fromCode(source);
+        }
+    }
+}
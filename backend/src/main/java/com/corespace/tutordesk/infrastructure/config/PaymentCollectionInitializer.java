@@ -0,0 +1,40 @@
+package com.corespace.tutordesk.infrastructure.config;
+
+import com.corespace.tutordesk.domain.entity.Payment;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+/**
+ * Time-series collections have to be created explicitly; an insert into a
+ * missing collection would silently create a regular one instead. Called by
+ * {@link MongoIndexReconciler}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentCollectionInitializer {
+    
+    private final MongoTemplate mongoTemplate;
+    
+    public void createPaymentCollection() {
+        if (!mongoTemplate.collectionExists(Payment.class)) {
+            log.info("Creating payments time-series collection");
+            mongoTemplate.createCollection(Payment.class);
+        }
+    }
+    
+    public void ensurePaymentIndexes() {
+        mongoTemplate.indexOps(Payment.class).ensureIndex(new Index()
+                .on("student_id", Sort.Direction.ASC)
+                .on("date", Sort.Direction.DESC)
+                .named("student_date_idx"));
+        mongoTemplate.indexOps(Payment.class).ensureIndex(new Index()
+                .on("teacher_id", Sort.Direction.ASC)
+                .on("date", Sort.Direction.DESC)
+                .named("teacher_date_idx"));
+    }
+}
@@ -0,0 +1,39 @@
+package com.corespace.tutordesk.infrastructure.config;
+
+import com.corespace.tutordesk.application.scheduler.AnalyticsScheduler;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Support for the prod startup profile, which turns on
+ * spring.main.lazy-initialization.
+ */
+@Configuration
+public class StartupConfig {
+    
+    /**
+     * Scheduled jobs are only registered when their bean is created, and the
+     * index reconciler has to run without being asked for, so both stay eager.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerInfrastructureFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && (beanType.getPackageName().equals(AnalyticsScheduler.class.getPackageName())
+                || MongoIndexReconciler.class.isAssignableFrom(beanType));
+    }
+    
+    /**
+     * Used by the class-data-sharing training run: start, serve nothing, exit
+     * normally so the JVM writes the archive.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.startup.exit-on-ready", havingValue = "true")
+    public ApplicationListener<ApplicationReadyEvent> exitOnReady() {
+        return event -> System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
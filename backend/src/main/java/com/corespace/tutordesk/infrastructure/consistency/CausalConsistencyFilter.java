@@ -0,0 +1,46 @@
+package com.corespace.tutordesk.infrastructure.consistency;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoClient;
+import lombok.RequiredArgsConstructor;
+import org.bson.BsonTimestamp;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Prepares a causally consistent session for each request, advanced to the
+ * client's causal token. The session is started by
+ * {@link CausalSessionDatabaseFactory} on the first database operation, so
+ * requests that never touch the database, like the actuator endpoints, keep
+ * working while MongoDB is unreachable.
+ */
+@RequiredArgsConstructor
+public class CausalConsistencyFilter extends OncePerRequestFilter {
+    
+    private static final ClientSessionOptions CAUSAL = ClientSessionOptions.builder()
+            .causallyConsistent(true)
+            .build();
+    
+    private final MongoClient mongoClient;
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        BsonTimestamp readAfter = CausalSessionContext.fromToken(request.getHeader(CausalSessionContext.TOKEN_HEADER));
+        CausalSessionContext.bind(() -> mongoClient.startSession(CAUSAL), readAfter);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ClientSession session = CausalSessionContext.clear();
+            if (session != null) {
+                session.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.corespace.tutordesk.infrastructure.consistency;
+
+import com.mongodb.client.ClientSession;
+import org.bson.BsonTimestamp;
+
+import java.util.function.Supplier;
+
+/**
+ * Holds the causally consistent session of the current request. Clients get
+ * the session's operation time back as a causal token after a write and can
+ * send it with later reads, which then wait until the secondary serving them
+ * has caught up to that write.
+ *
+ * The session is only started when the request first reaches the database:
+ * starting one waits for the driver to see a usable cluster, which requests
+ * such as health checks must not depend on.
+ */
+public final class CausalSessionContext {
+    
+    public static final String TOKEN_HEADER = "X-Causal-Token";
+    
+    private static final ThreadLocal<RequestSession> CURRENT_SESSION = new ThreadLocal<>();
+    
+    private CausalSessionContext() {
+    }
+    
+    // The request's session, or null if it has not touched the database
+    public static ClientSession current() {
+        RequestSession requestSession = CURRENT_SESSION.get();
+        return requestSession != null ? requestSession.session : null;
+    }
+    
+    static ClientSession currentOrStart() {
+        RequestSession requestSession = CURRENT_SESSION.get();
+        if (requestSession == null) {
+            return null;
+        }
+        if (requestSession.session == null) {
+            ClientSession session = requestSession.starter.get();
+            if (requestSession.readAfter != null) {
+                session.advanceOperationTime(requestSession.readAfter);
+            }
+            requestSession.session = session;
+        }
+        return requestSession.session;
+    }
+    
+    static void bind(Supplier<ClientSession> starter, BsonTimestamp readAfter) {
+        CURRENT_SESSION.set(new RequestSession(starter, readAfter));
+    }
+    
+    // Returns the session if one was started, the caller closes it
+    static ClientSession clear() {
+        ClientSession session = current();
+        CURRENT_SESSION.remove();
+        return session;
+    }
+    
+    public static String toToken(BsonTimestamp operationTime) {
+        return operationTime.getTime() + "." + operationTime.getInc();
+    }
+    
+    public static BsonTimestamp fromToken(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        String[] parts = token.trim().split("\\.");
+        if (parts.length != 2) {
+            return null;
+        }
+        try {
+            return new BsonTimestamp(Integer.parseUnsignedInt(parts[0]), Integer.parseUnsignedInt(parts[1]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
+    private static final class RequestSession {
+        
+        private final Supplier<ClientSession> starter;
+        private final BsonTimestamp readAfter;
+        private ClientSession session;
+        
+        private RequestSession(Supplier<ClientSession> starter, BsonTimestamp readAfter) {
+            this.starter = starter;
+            this.readAfter = readAfter;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.corespace.tutordesk.infrastructure.consistency;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoDatabase;
+import lombok.RequiredArgsConstructor;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+
+/**
+ * Runs every operation in the current request's causal session, if there is
+ * one, starting it on first use. Primary and secondary templates share it, so a read on a secondary
+ * sees the writes made earlier through the same session.
+ */
+@RequiredArgsConstructor
+public class CausalSessionDatabaseFactory implements MongoDatabaseFactory {
+    
+    private final MongoDatabaseFactory delegate;
+    
+    @Override
+    public MongoDatabase getMongoDatabase() throws DataAccessException {
+        return current().getMongoDatabase();
+    }
+    
+    @Override
+    public MongoDatabase getMongoDatabase(String dbName) throws DataAccessException {
+        return current().getMongoDatabase(dbName);
+    }
+    
+    @Override
+    public PersistenceExceptionTranslator getExceptionTranslator() {
+        return delegate.getExceptionTranslator();
+    }
+    
+    @Override
+    public CodecRegistry getCodecRegistry() {
+        return delegate.getCodecRegistry();
+    }
+    
+    @Override
+    public ClientSession getSession(ClientSessionOptions options) {
+        return delegate.getSession(options);
+    }
+    
+    @Override
+    public MongoDatabaseFactory withSession(ClientSession session) {
+        return delegate.withSession(session);
+    }
+    
+    private MongoDatabaseFactory current() {
+        ClientSession session = CausalSessionContext.currentOrStart();
+        return session != null ? delegate.withSession(session) : delegate;
+    }
+}
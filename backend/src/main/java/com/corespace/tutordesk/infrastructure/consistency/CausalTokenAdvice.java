@@ -0,0 +1,34 @@
+package com.corespace.tutordesk.infrastructure.consistency;
+
+import com.mongodb.client.ClientSession;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Returns the session's operation time as a causal token. The header has to
+ * be set before the body is written, which a servlet filter cannot do.
+ */
+@ControllerAdvice
+public class CausalTokenAdvice implements ResponseBodyAdvice<Object> {
+    
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+    
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        ClientSession session = CausalSessionContext.current();
+        if (session != null && session.getOperationTime() != null) {
+            response.getHeaders().set(CausalSessionContext.TOKEN_HEADER, CausalSessionContext.toToken(session.getOperationTime()));
+        }
+        return body;
+    }
+}
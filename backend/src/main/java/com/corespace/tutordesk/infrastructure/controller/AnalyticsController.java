@@ -0,0 +1,66 @@
+package com.corespace.tutordesk.infrastructure.controller;
+
+import com.corespace.tutordesk.application.dto.AnalyticsRefreshResultDto;
+import com.corespace.tutordesk.application.dto.GradeSummaryDto;
+import com.corespace.tutordesk.application.dto.RetentionSummaryDto;
+import com.corespace.tutordesk.application.dto.RevenueSummaryDto;
+import com.corespace.tutordesk.application.service.AnalyticsService;
+import com.corespace.tutordesk.domain.entity.Student;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/analytics")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Analytics", description = "APIs for materialized student reports")
+@CrossOrigin(origins = "http://localhost:3000")
+public class AnalyticsController {
+    
+    private final AnalyticsService analyticsService;
+    
+    @GetMapping("/grades")
+    @Operation(summary = "Average grade per level and topic", description = "Retrieve average grades grouped by level and topic")
+    public ResponseEntity<List<GradeSummaryDto>> getGradeSummaries(
+            @Parameter(description = "Level filter, any alias such as Beginner or B1") @RequestParam(required = false) String level) {
+        log.info("Fetching grade summaries for level: {}", level);
+        // Summaries are grouped by the canonical level the students are stored with
+        String canonical = level != null
+                ? Student.StudentLevel.fromAlias(level)
+                        .map(Enum::name)
+                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown level: " + level))
+                : null;
+        return ResponseEntity.ok(analyticsService.getGradeSummaries(canonical));
+    }
+    
+    @GetMapping("/retention")
+    @Operation(summary = "Retention by start month", description = "Retrieve the share of each start-month cohort that is still active")
+    public ResponseEntity<List<RetentionSummaryDto>> getRetentionSummaries() {
+        log.info("Fetching retention summaries");
+        return ResponseEntity.ok(analyticsService.getRetentionSummaries());
+    }
+    
+    @GetMapping("/revenue")
+    @Operation(summary = "Revenue per level", description = "Retrieve monthly revenue from active students grouped by level")
+    public ResponseEntity<List<RevenueSummaryDto>> getRevenueSummaries() {
+        log.info("Fetching revenue summaries");
+        return ResponseEntity.ok(analyticsService.getRevenueSummaries());
+    }
+    
+    @PostMapping("/refresh")
+    @Operation(summary = "Refresh analytics", description = "Reprocess students changed since the last refresh, or all students when full is set")
+    public ResponseEntity<AnalyticsRefreshResultDto> refresh(
+            @Parameter(description = "Rebuild from scratch") @RequestParam(defaultValue = "false") boolean full) {
+        log.info("Refreshing analytics, full: {}", full);
+        return ResponseEntity.ok(analyticsService.refresh(full));
+    }
+}
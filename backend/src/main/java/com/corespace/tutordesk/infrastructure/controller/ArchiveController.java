@@ -0,0 +1,38 @@
+package com.corespace.tutordesk.infrastructure.controller;
+
+import com.corespace.tutordesk.application.dto.ArchiveRunDto;
+import com.corespace.tutordesk.application.dto.StudentDto;
+import com.corespace.tutordesk.application.service.StudentArchiveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/archive")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Student Archive", description = "APIs for archiving graduated and long-inactive students")
+@CrossOrigin(origins = "http://localhost:3000")
+public class ArchiveController {
+    
+    private final StudentArchiveService studentArchiveService;
+    
+    @PostMapping("/run")
+    @Operation(summary = "Archive students", description = "Move graduated and long-inactive students into the archive collection")
+    public ResponseEntity<ArchiveRunDto> archiveStudents() {
+        log.info("Archiving students");
+        return ResponseEntity.ok(studentArchiveService.archiveStudents());
+    }
+    
+    @PostMapping("/students/{id}/restore")
+    @Operation(summary = "Restore student", description = "Move an archived student back into the active roster")
+    public ResponseEntity<StudentDto> restoreStudent(
+            @Parameter(description = "Student ID") @PathVariable String id) {
+        log.info("Restoring archived student: {}", id);
+        return ResponseEntity.ok(studentArchiveService.restoreStudent(id));
+    }
+}
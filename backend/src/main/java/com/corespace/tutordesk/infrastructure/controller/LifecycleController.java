@@ -0,0 +1,43 @@
+package com.corespace.tutordesk.infrastructure.controller;
+
+import com.corespace.tutordesk.application.dto.StatusTransitionDto;
+import com.corespace.tutordesk.application.service.StudentLifecycleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import java.util.List;
+
+@RestController
+@RequestMapping("/lifecycle")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+@Tag(name = "Student Lifecycle", description = "APIs for automatic student status transitions")
+@CrossOrigin(origins = "http://localhost:3000")
+public class LifecycleController {
+    
+    private final StudentLifecycleService studentLifecycleService;
+    
+    @PostMapping("/transitions")
+    @Operation(summary = "Apply status transitions", description = "Move expired students to INACTIVE and lapsed inactive students to SUSPENDED")
+    public ResponseEntity<List<StatusTransitionDto>> applyStatusTransitions() {
+        log.info("Applying student status transitions");
+        return ResponseEntity.ok(studentLifecycleService.applyStatusTransitions());
+    }
+    
+    @GetMapping("/transitions")
+    @Operation(summary = "Get transition history", description = "Retrieve the most recent status transition runs")
+    public ResponseEntity<List<StatusTransitionDto>> getTransitionHistory(
+            @Parameter(description = "Maximum number of entries") @RequestParam(defaultValue = "20") @Min(1) @Max(200) int limit) {
+        log.info("Fetching last {} status transitions", limit);
+        return ResponseEntity.ok(studentLifecycleService.getTransitionHistory(limit));
+    }
+}
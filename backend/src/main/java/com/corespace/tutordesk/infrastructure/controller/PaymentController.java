@@ -0,0 +1,104 @@
+package com.corespace.tutordesk.infrastructure.controller;
+
+import com.corespace.tutordesk.application.dto.MonthlyRevenueDto;
+import com.corespace.tutordesk.application.dto.PaymentDto;
+import com.corespace.tutordesk.application.dto.RecordPaymentRequest;
+import com.corespace.tutordesk.application.dto.StudentBalanceDto;
+import com.corespace.tutordesk.application.service.PaymentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import javax.validation.Valid;
+import javax.validation.constraints.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/payments")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+@Tag(name = "Payment Management", description = "APIs for recording payments and monthly balances")
+@CrossOrigin(origins = "http://localhost:3000")
+public class PaymentController {
+    
+    private final PaymentService paymentService;
+    
+    @PostMapping
+    @Operation(summary = "Record a payment", description = "Append a payment to the ledger and update the monthly rollup")
+    public ResponseEntity<PaymentDto> recordPayment(
+            @Valid @RequestBody RecordPaymentRequest request) {
+        log.info("Recording payment for student: {}", request.getStudentId());
+        PaymentDto payment = paymentService.recordPayment(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(payment);
+    }
+    
+    @GetMapping
+    @Operation(summary = "List payments", description = "Retrieve payments in a date range, newest first")
+    public ResponseEntity<List<PaymentDto>> getPayments(
+            @Parameter(description = "From date (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "To date (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusMonths(1);
+        log.info("Fetching payments from {} to {}", start, end);
+        return ResponseEntity.ok(paymentService.getPayments(start, end));
+    }
+    
+    @GetMapping("/student/{studentId}")
+    @Operation(summary = "List student payments", description = "Retrieve a student's payments in a date range, newest first")
+    public ResponseEntity<List<PaymentDto>> getPaymentsByStudent(
+            @Parameter(description = "Student ID") @PathVariable String studentId,
+            @Parameter(description = "From date (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "To date (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        log.info("Fetching payments for student {} from {} to {}", studentId, start, end);
+        return ResponseEntity.ok(paymentService.getPaymentsByStudent(studentId, start, end));
+    }
+    
+    @GetMapping("/student/{studentId}/balances")
+    @Operation(summary = "Get student balances", description = "Retrieve a student's expected, paid and outstanding amounts per month")
+    public ResponseEntity<List<StudentBalanceDto>> getStudentBalances(
+            @Parameter(description = "Student ID") @PathVariable String studentId) {
+        log.info("Fetching balances for student: {}", studentId);
+        return ResponseEntity.ok(paymentService.getStudentBalances(studentId));
+    }
+    
+    @GetMapping("/monthly")
+    @Operation(summary = "Get monthly revenue", description = "Retrieve expected, paid and outstanding totals per month")
+    public ResponseEntity<List<MonthlyRevenueDto>> getMonthlyRevenue(
+            @Parameter(description = "From period (yyyy-MM)") @RequestParam(required = false) @Pattern(regexp = RecordPaymentRequest.PERIOD_PATTERN, message = "Period must be in yyyy-MM format") String from,
+            @Parameter(description = "To period (yyyy-MM)") @RequestParam(required = false) @Pattern(regexp = RecordPaymentRequest.PERIOD_PATTERN, message = "Period must be in yyyy-MM format") String to) {
+        String end = to != null ? to : YearMonth.now().toString();
+        String start = from != null ? from : YearMonth.now().minusMonths(11).toString();
+        log.info("Fetching monthly revenue from {} to {}", start, end);
+        return ResponseEntity.ok(paymentService.getMonthlyRevenue(start, end));
+    }
+    
+    @GetMapping("/outstanding")
+    @Operation(summary = "Get outstanding balances", description = "Retrieve students with an unpaid balance for a month")
+    public ResponseEntity<List<StudentBalanceDto>> getOutstandingBalances(
+            @Parameter(description = "Period (yyyy-MM)") @RequestParam(required = false) @Pattern(regexp = RecordPaymentRequest.PERIOD_PATTERN, message = "Period must be in yyyy-MM format") String period) {
+        String month = period != null ? period : YearMonth.now().toString();
+        log.info("Fetching outstanding balances for period: {}", month);
+        return ResponseEntity.ok(paymentService.getOutstandingBalances(month));
+    }
+    
+    @PostMapping("/periods/{period}/open")
+    @Operation(summary = "Open billing period", description = "Create the monthly rollup for every active student so unpaid fees show as outstanding")
+    public ResponseEntity<Void> openPeriod(
+            @Parameter(description = "Period (yyyy-MM)") @PathVariable @Pattern(regexp = RecordPaymentRequest.PERIOD_PATTERN, message = "Period must be in yyyy-MM format") String period) {
+        log.info("Opening billing period: {}", period);
+        paymentService.openPeriod(period);
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.corespace.tutordesk.infrastructure.controller;
+
+import com.corespace.tutordesk.application.dto.StorageMigrationStatusDto;
+import com.corespace.tutordesk.application.service.StorageMigrationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/storage-migration")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Storage Migration", description = "APIs for the background migration to the compact storage schema")
+@CrossOrigin(origins = "http://localhost:3000")
+public class StorageMigrationController {
+    
+    private final StorageMigrationService storageMigrationService;
+    
+    @GetMapping
+    @Operation(summary = "Get migration status", description = "Retrieve the checkpoint of every migrated collection")
+    public ResponseEntity<List<StorageMigrationStatusDto>> getStatus() {
+        log.info("Fetching storage migration status");
+        return ResponseEntity.ok(storageMigrationService.getStatus());
+    }
+    
+    @PostMapping("/run")
+    @Operation(summary = "Run migration", description = "Convert the remaining documents, resuming from the last checkpoint")
+    public ResponseEntity<List<StorageMigrationStatusDto>> runMigration() {
+        log.info("Running storage migration");
+        return ResponseEntity.ok(storageMigrationService.runMigration());
+    }
+}
@@ -1,10 +1,16 @@
 package com.corespace.tutordesk.infrastructure.controller;
 
+import com.corespace.tutordesk.application.dto.BulkGradeResultDto;
 import com.corespace.tutordesk.application.dto.CreateStudentRequest;
+import com.corespace.tutordesk.application.dto.GradeEntryRequest;
+import com.corespace.tutordesk.application.dto.ProgressEntryDto;
 import com.corespace.tutordesk.application.dto.StudentDto;
+import com.corespace.tutordesk.application.dto.UpdateProgressEntryRequest;
 import com.corespace.tutordesk.application.service.NotificationService;
 import com.corespace.tutordesk.application.service.StudentService;
 import com.corespace.tutordesk.domain.entity.Student;
+import com.corespace.tutordesk.infrastructure.admission.AdmissionClass;
+import com.corespace.tutordesk.infrastructure.admission.CostClass;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -23,12 +29,14 @@ import java.util.List;
 @Slf4j
 @Tag(name = "Student Management", description = "APIs for managing students")
 @CrossOrigin(origins = "http://localhost:3000")
+@AdmissionClass(CostClass.STANDARD)
 public class StudentController {
     
     private final StudentService studentService;
     private final NotificationService notificationService;
     
     @PostMapping
+    @AdmissionClass(CostClass.HEAVY)
     @Operation(summary = "Create a new student", description = "Register a new student with basic information")
     public ResponseEntity<StudentDto> createStudent(
             @Valid @RequestBody CreateStudentRequest request) {
@@ -42,6 +50,7 @@ public class StudentController {
     }
     
     @GetMapping("/{id}")
+    @AdmissionClass(CostClass.CHEAP)
     @Operation(summary = "Get student by ID", description = "Retrieve student information by their unique ID")
     public ResponseEntity<StudentDto> getStudentById(
             @Parameter(description = "Student ID") @PathVariable String id) {
@@ -51,6 +60,7 @@ public class StudentController {
     }
     
     @GetMapping
+    @AdmissionClass(CostClass.HEAVY)
     @Operation(summary = "Get all students", description = "Retrieve a list of all registered students")
     public ResponseEntity<List<StudentDto>> getAllStudents() {
         log.info("Fetching all students");
@@ -59,6 +69,7 @@ public class StudentController {
     }
     
     @GetMapping("/status/{status}")
+    @AdmissionClass(CostClass.HEAVY)
     @Operation(summary = "Get students by status", description = "Retrieve students filtered by their current status")
     public ResponseEntity<List<StudentDto>> getStudentsByStatus(
             @Parameter(description = "Student status") @PathVariable Student.StudentStatus status) {
@@ -101,7 +112,38 @@ public class StudentController {
         return ResponseEntity.ok(updatedStudent);
     }
     
+    @PatchMapping("/{id}/progress/{entryId}")
+    @Operation(summary = "Update progress entry", description = "Change individual fields of a single progress entry")
+    public ResponseEntity<ProgressEntryDto> updateProgressEntry(
+            @Parameter(description = "Student ID") @PathVariable String id,
+            @Parameter(description = "Progress entry ID") @PathVariable String entryId,
+            @Valid @RequestBody UpdateProgressEntryRequest request) {
+        log.info("Updating progress entry {} for student: {}", entryId, id);
+        ProgressEntryDto updatedEntry = studentService.updateProgressEntry(id, entryId, request);
+        return ResponseEntity.ok(updatedEntry);
+    }
+    
+    @DeleteMapping("/{id}/progress/{entryId}")
+    @Operation(summary = "Delete progress entry", description = "Remove a single progress entry from a student")
+    public ResponseEntity<Void> deleteProgressEntry(
+            @Parameter(description = "Student ID") @PathVariable String id,
+            @Parameter(description = "Progress entry ID") @PathVariable String entryId) {
+        log.info("Deleting progress entry {} for student: {}", entryId, id);
+        studentService.deleteProgressEntry(id, entryId);
+        return ResponseEntity.noContent().build();
+    }
+    
+    @PostMapping("/progress/bulk")
+    @AdmissionClass(CostClass.HEAVY)
+    @Operation(summary = "Grade a class", description = "Add progress entries for many students in one write; each entry reports its own outcome")
+    public ResponseEntity<BulkGradeResultDto> addProgressEntries(@RequestBody List<GradeEntryRequest> entries) {
+        log.info("Adding {} progress entries in bulk", entries.size());
+        BulkGradeResultDto result = studentService.addProgressEntries(entries);
+        return ResponseEntity.ok(result);
+    }
+    
     @GetMapping("/expiring")
+    @AdmissionClass(CostClass.HEAVY)
     @Operation(summary = "Get students with expiring subscription", description = "Retrieve students whose subscription is expiring soon")
     public ResponseEntity<List<StudentDto>> getStudentsWithExpiringSubscription(
             @Parameter(description = "Days before expiry") @RequestParam(defaultValue = "7") int daysBeforeExpiry) {
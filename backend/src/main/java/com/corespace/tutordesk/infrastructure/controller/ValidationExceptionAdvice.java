@@ -0,0 +1,31 @@
+package com.corespace.tutordesk.infrastructure.controller;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import java.io.IOException;
+import java.util.stream.Collectors;
+
+/**
+ * Constraints on path variables and request parameters of @Validated
+ * controllers fail with a ConstraintViolationException, which would otherwise
+ * surface as a 500.
+ */
+@ControllerAdvice
+@Slf4j
+public class ValidationExceptionAdvice {
+    
+    @ExceptionHandler(ConstraintViolationException.class)
+    public void handleConstraintViolation(ConstraintViolationException e, HttpServletResponse response) throws IOException {
+        String message = e.getConstraintViolations().stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining(", "));
+        log.debug("Rejected request parameters: {}", message);
+        response.sendError(HttpStatus.BAD_REQUEST.value(), message);
+    }
+}
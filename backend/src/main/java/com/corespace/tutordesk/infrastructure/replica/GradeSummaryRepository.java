@@ -0,0 +1,15 @@
+package com.corespace.tutordesk.infrastructure.replica;
+
+import com.corespace.tutordesk.domain.entity.GradeSummary;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface GradeSummaryRepository extends MongoRepository<GradeSummary, String> {
+    
+    List<GradeSummary> findByTeacherIdOrderByLevelAscTopicAsc(String teacherId);
+    
+    List<GradeSummary> findByTeacherIdAndLevelOrderByTopicAsc(String teacherId, String level);
+}
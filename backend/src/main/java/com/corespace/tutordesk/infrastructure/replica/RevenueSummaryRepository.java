@@ -0,0 +1,13 @@
+package com.corespace.tutordesk.infrastructure.replica;
+
+import com.corespace.tutordesk.domain.entity.RevenueSummary;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RevenueSummaryRepository extends MongoRepository<RevenueSummary, String> {
+    
+    List<RevenueSummary> findByTeacherIdOrderByLevelAsc(String teacherId);
+}
@@ -0,0 +1,29 @@
+package com.corespace.tutordesk.infrastructure.replica;
+
+import com.corespace.tutordesk.domain.entity.Student;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Read-only student queries served by secondaries. Results may lag the
+ * primary by up to the configured max staleness.
+ */
+@org.springframework.stereotype.Repository
+public interface StudentReadRepository extends Repository<Student, String> {
+    
+    List<Student> findByTeacherId(String teacherId);
+    
+    // Pass StudentStatus.storedValues(), which also matches documents not yet migrated to status codes
+    @Query("{'teacher_id': ?0, 'status': {$in: ?1}}")
+    List<Student> findByTeacherIdAndStatus(String teacherId, List<Object> storedStatuses);
+
+    @Query("{'teacher_id': ?0, 'subscription_expiry': {$lte: ?1}}")
+    List<Student> findStudentsWithExpiringSubscription(String teacherId, LocalDate expiryDate);
+    
+    // 1 is the ACTIVE status code
+    @Query("{'teacher_id': ?0, 'subscription_expiry': {$lte: ?1}, 'status': {$in: [1, 'ACTIVE']}}")
+    List<Student> findActiveStudentsWithExpiringSubscription(String teacherId, LocalDate expiryDate);
+}
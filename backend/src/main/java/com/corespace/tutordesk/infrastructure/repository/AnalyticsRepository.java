@@ -0,0 +1,230 @@
+package com.corespace.tutordesk.infrastructure.repository;
+
+import com.corespace.tutordesk.domain.entity.AnalyticsWatermark;
+import com.corespace.tutordesk.domain.entity.GradeSummary;
+import com.corespace.tutordesk.domain.entity.RetentionSummary;
+import com.corespace.tutordesk.domain.entity.RevenueSummary;
+import com.corespace.tutordesk.domain.entity.Student;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.MergeOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the materialized analytics collections.
+ *
+ * Students changed since the last watermark are projected into a compact
+ * per-student facts collection, and the report collections are regrouped
+ * from those facts, per teacher. Every pipeline ends in a $merge, so nothing
+ * is pulled into the application.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsRepository {
+
+    public static final String STUDENT_FACTS_COLLECTION = "analytics_student_facts";
+    public static final String REMOVED_STUDENTS_COLLECTION = "analytics_removed_students";
+    private static final String WATERMARK_ID = "student_facts";
+    private static final String UNSPECIFIED = "UNSPECIFIED";
+
+    private final MongoTemplate mongoTemplate;
+
+    public AnalyticsWatermark findWatermark() {
+        return mongoTemplate.findById(WATERMARK_ID, AnalyticsWatermark.class);
+    }
+
+    public void saveWatermark(LocalDateTime refreshedAt) {
+        mongoTemplate.save(new AnalyticsWatermark(WATERMARK_ID, refreshedAt));
+    }
+
+    public long countStudentsUpdatedSince(LocalDateTime since) {
+        return mongoTemplate.count(new Query(updatedSince(since)), Student.class);
+    }
+
+    public void clearStudentFacts() {
+        mongoTemplate.dropCollection(STUDENT_FACTS_COLLECTION);
+    }
+
+    public void mergeStudentFacts(LocalDateTime since) {
+        Document grade = new Document("$cond", Arrays.asList(
+                new Document("$gt", List.of("$$p.max_grade", 0)),
+                new Document("$multiply", List.of(
+                        new Document("$divide", List.of("$$p.grade", "$$p.max_grade")), 100)),
+                null));
+
+        Document facts = new Document("teacher_id", 1)
+                .append("level", new Document("$ifNull", List.of("$level", UNSPECIFIED)))
+                .append("status", 1)
+                .append("monthly_fee", new Document("$toDecimal", new Document("$ifNull", List.of("$monthly_fee", 0))))
+                .append("start_month", new Document("$dateToString",
+                        new Document("format", "%Y-%m").append("date", "$start_date")))
+                .append("grades", new Document("$map", new Document("input",
+                        new Document("$ifNull", List.of("$progress", List.of())))
+                        .append("as", "p")
+                        .append("in", new Document("topic",
+                                new Document("$ifNull", List.of("$$p.topic", UNSPECIFIED)))
+                                .append("percent", grade))))
+                .append("updated_at", 1);
+
+        aggregateInto(mongoTemplate.getCollectionName(Student.class), STUDENT_FACTS_COLLECTION,
+                Aggregation.match(updatedSince(since)),
+                stage("$project", facts));
+    }
+
+    /**
+     * Incremental runs only see students that still exist, so students
+     * deleted or archived are recorded here and their facts dropped by the
+     * next refresh.
+     */
+    public void recordRemovedStudents(Collection<String> ids, LocalDateTime removedAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, REMOVED_STUDENTS_COLLECTION);
+        for (String id : ids) {
+            bulkOperations.upsert(new Query(Criteria.where("_id").is(toObjectId(id))),
+                    new Update().set("removed_at", toDate(removedAt)));
+        }
+        bulkOperations.execute();
+    }
+
+    public long removeFactsOfRemovedStudents() {
+        Query removedQuery = new Query();
+        removedQuery.fields().include("_id");
+        List<Object> removedIds = mongoTemplate.find(removedQuery, Document.class, REMOVED_STUDENTS_COLLECTION).stream()
+                .map(document -> document.get("_id"))
+                .collect(Collectors.toList());
+        if (removedIds.isEmpty()) {
+            return 0;
+        }
+
+        long removed = mongoTemplate.remove(new Query(Criteria.where("_id").in(removedIds)), STUDENT_FACTS_COLLECTION)
+                .getDeletedCount();
+        mongoTemplate.remove(new Query(Criteria.where("_id").in(removedIds)), REMOVED_STUDENTS_COLLECTION);
+        return removed;
+    }
+
+    public void rebuildGradeSummaries(LocalDateTime refreshedAt) {
+        String collection = mongoTemplate.getCollectionName(GradeSummary.class);
+
+        aggregateInto(STUDENT_FACTS_COLLECTION, collection,
+                Aggregation.unwind("grades"),
+                Aggregation.match(Criteria.where("grades.percent").ne(null)),
+                stage("$group", new Document("_id", new Document("teacher_id", "$teacher_id")
+                                .append("level", "$level")
+                                .append("topic", "$grades.topic"))
+                        .append("average_grade", new Document("$avg", "$grades.percent"))
+                        .append("entries", new Document("$sum", 1))),
+                stage("$project", new Document("_id", new Document("$concat", List.of("$_id.teacher_id", "|", "$_id.level", "|", "$_id.topic")))
+                        .append("teacher_id", "$_id.teacher_id")
+                        .append("level", "$_id.level")
+                        .append("topic", "$_id.topic")
+                        .append("average_grade", new Document("$round", List.of("$average_grade", 2)))
+                        .append("entries", 1)
+                        .append("refreshed_at", toDate(refreshedAt))));
+
+        removeStale(collection, refreshedAt);
+    }
+
+    public void rebuildRetentionSummaries(LocalDateTime refreshedAt) {
+        String collection = mongoTemplate.getCollectionName(RetentionSummary.class);
+
+        aggregateInto(STUDENT_FACTS_COLLECTION, collection,
+                Aggregation.match(Criteria.where("start_month").ne(null)),
+                stage("$group", new Document("_id", new Document("teacher_id", "$teacher_id").append("start_month", "$start_month"))
+                        .append("students", new Document("$sum", 1))
+                        .append("active_students", new Document("$sum", activeOnly(1)))),
+                stage("$project", new Document("_id", new Document("$concat", List.of("$_id.teacher_id", "|", "$_id.start_month")))
+                        .append("teacher_id", "$_id.teacher_id")
+                        .append("start_month", "$_id.start_month")
+                        .append("students", 1)
+                        .append("active_students", 1)
+                        .append("retention_rate", new Document("$round", List.of(
+                                new Document("$multiply", List.of(
+                                        new Document("$divide", List.of("$active_students", "$students")), 100)), 2)))
+                        .append("refreshed_at", toDate(refreshedAt))));
+
+        removeStale(collection, refreshedAt);
+    }
+
+    public void rebuildRevenueSummaries(LocalDateTime refreshedAt) {
+        String collection = mongoTemplate.getCollectionName(RevenueSummary.class);
+
+        aggregateInto(STUDENT_FACTS_COLLECTION, collection,
+                stage("$group", new Document("_id", new Document("teacher_id", "$teacher_id").append("level", "$level"))
+                        .append("students", new Document("$sum", 1))
+                        .append("active_students", new Document("$sum", activeOnly(1)))
+                        .append("monthly_revenue", new Document("$sum", activeOnly("$monthly_fee")))),
+                stage("$project", new Document("_id", new Document("$concat", List.of("$_id.teacher_id", "|", "$_id.level")))
+                        .append("teacher_id", "$_id.teacher_id")
+                        .append("level", "$_id.level")
+                        .append("students", 1)
+                        .append("active_students", 1)
+                        .append("monthly_revenue", new Document("$round", List.of("$monthly_revenue", 2)))
+                        .append("refreshed_at", toDate(refreshedAt))));
+
+        removeStale(collection, refreshedAt);
+    }
+
+    private void aggregateInto(String source, String target, AggregationOperation... operations) {
+        AggregationOperation[] pipeline = new AggregationOperation[operations.length + 1];
+        System.arraycopy(operations, 0, pipeline, 0, operations.length);
+        pipeline[operations.length] = Aggregation.merge()
+                .intoCollection(target)
+                .whenMatched(MergeOperation.WhenDocumentsMatch.replaceDocument())
+                .whenNotMatched(MergeOperation.WhenDocumentsDontMatch.insertNewDocument())
+                .build();
+
+        Aggregation aggregation = Aggregation.newAggregation(pipeline)
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).skipOutput().build());
+
+        log.debug("Merging {} into {}", source, target);
+        mongoTemplate.aggregate(aggregation, source, Document.class);
+    }
+
+    // Summary documents that were not rewritten by this run belong to groups that no longer exist
+    private void removeStale(String collection, LocalDateTime refreshedAt) {
+        mongoTemplate.remove(new Query(Criteria.where("refreshed_at").lt(toDate(refreshedAt))), collection);
+    }
+
+    private static Criteria updatedSince(LocalDateTime since) {
+        return since != null ? Criteria.where("updated_at").gte(toDate(since)) : new Criteria();
+    }
+
+    private static Document activeOnly(Object value) {
+        return new Document("$cond", List.of(
+                new Document("$in", List.of("$status", Student.StudentStatus.ACTIVE.storedValues())), value, 0));
+    }
+
+    private static AggregationOperation stage(String operator, Document spec) {
+        return context -> new Document(operator, spec);
+    }
+
+    // Facts keep the students' _id, which is an ObjectId for every student the API created
+    private static Object toObjectId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+
+    private static Date toDate(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
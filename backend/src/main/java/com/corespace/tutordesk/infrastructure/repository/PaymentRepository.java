@@ -0,0 +1,20 @@
+package com.corespace.tutordesk.infrastructure.repository;
+
+import com.corespace.tutordesk.domain.entity.Payment;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PaymentRepository extends MongoRepository<Payment, String> {
+    
+    @Query("{'teacher_id': ?0, 'student_id': ?1, 'date': {$gte: ?2, $lt: ?3}}")
+    List<Payment> findByStudentIdInRange(String teacherId, String studentId, LocalDateTime from, LocalDateTime to, Sort sort);
+    
+    @Query("{'teacher_id': ?0, 'date': {$gte: ?1, $lt: ?2}}")
+    List<Payment> findInRange(String teacherId, LocalDateTime from, LocalDateTime to, Sort sort);
+}
@@ -0,0 +1,16 @@
+package com.corespace.tutordesk.infrastructure.repository;
+
+import com.corespace.tutordesk.domain.entity.PaymentRollup;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface PaymentRollupRepository extends MongoRepository<PaymentRollup, String>, PaymentRollupRepositoryCustom {
+    
+    List<PaymentRollup> findByTeacherIdAndPeriodAndOutstandingGreaterThanOrderByOutstandingDesc(String teacherId, String period, BigDecimal outstanding);
+    
+    List<PaymentRollup> findByTeacherIdAndStudentIdOrderByPeriodDesc(String teacherId, String studentId);
+}
@@ -0,0 +1,15 @@
+package com.corespace.tutordesk.infrastructure.repository;
+
+import com.corespace.tutordesk.domain.entity.MonthlyRevenue;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface PaymentRollupRepositoryCustom {
+    
+    void applyPayment(String teacherId, String studentId, String period, BigDecimal expected, BigDecimal amount);
+    
+    void openPeriod(String period);
+    
+    List<MonthlyRevenue> summarizeByPeriod(String teacherId, String fromPeriod, String toPeriod);
+}
@@ -0,0 +1,98 @@
+package com.corespace.tutordesk.infrastructure.repository;
+
+import com.corespace.tutordesk.domain.entity.MonthlyRevenue;
+import com.corespace.tutordesk.domain.entity.PaymentRollup;
+import com.corespace.tutordesk.domain.entity.Student;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.MergeOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PaymentRollupRepositoryImpl implements PaymentRollupRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Adds a completed payment to the student's month in a single upsert. The
+     * expected amount is only taken from the student when the month is first seen.
+     */
+    @Override
+    public void applyPayment(String teacherId, String studentId, String period, BigDecimal expected, BigDecimal amount) {
+        Decimal128 expectedValue = new Decimal128(expected != null ? expected : BigDecimal.ZERO);
+        AggregationUpdate update = AggregationUpdate.from(List.of(
+                stage("$set", new Document("teacher_id", teacherId)
+                        .append("student_id", studentId)
+                        .append("period", period)
+                        .append("expected", new Document("$ifNull", List.of("$expected", expectedValue)))
+                        .append("paid", new Document("$add", List.of(new Document("$ifNull", List.of("$paid", Decimal128.POSITIVE_ZERO)), new Decimal128(amount))))
+                        .append("payments", new Document("$add", List.of(new Document("$ifNull", List.of("$payments", 0)), 1)))
+                        .append("updated_at", new Date())),
+                stage("$set", new Document("outstanding", new Document("$subtract", List.of("$expected", "$paid"))))));
+
+        mongoTemplate.upsert(new Query(Criteria.where("_id").is(PaymentRollup.idOf(studentId, period))),
+                update, PaymentRollup.class);
+    }
+
+    /**
+     * Seeds the month for every active student so that students who have not
+     * paid yet show up as outstanding. Months that already exist are kept.
+     * Runs once for all teachers.
+     */
+    @Override
+    public void openPeriod(String period) {
+        Document monthlyFee = new Document("$toDecimal", new Document("$ifNull", List.of("$monthly_fee", 0)));
+        Document rollup = new Document("_id", new Document("$concat", List.of(new Document("$toString", "$_id"), ":" + period)))
+                .append("teacher_id", "$teacher_id")
+                .append("student_id", new Document("$toString", "$_id"))
+                .append("period", period)
+                .append("expected", monthlyFee)
+                .append("paid", Decimal128.POSITIVE_ZERO)
+                .append("outstanding", monthlyFee)
+                .append("payments", 0)
+                .append("updated_at", new Date());
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("status").in(Student.StudentStatus.ACTIVE.storedValues())),
+                stage("$project", rollup),
+                Aggregation.merge()
+                        .intoCollection(mongoTemplate.getCollectionName(PaymentRollup.class))
+                        .whenMatched(MergeOperation.WhenDocumentsMatch.keepExistingDocument())
+                        .whenNotMatched(MergeOperation.WhenDocumentsDontMatch.insertNewDocument())
+                        .build())
+                .withOptions(AggregationOptions.builder().skipOutput().build());
+
+        mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(Student.class), Document.class);
+    }
+
+    @Override
+    public List<MonthlyRevenue> summarizeByPeriod(String teacherId, String fromPeriod, String toPeriod) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("teacher_id").is(teacherId).and("period").gte(fromPeriod).lte(toPeriod)),
+                stage("$group", new Document("_id", "$period")
+                        .append("students", new Document("$sum", 1))
+                        .append("payments", new Document("$sum", "$payments"))
+                        .append("expected", new Document("$sum", "$expected"))
+                        .append("paid", new Document("$sum", "$paid"))
+                        .append("outstanding", new Document("$sum", new Document("$max", List.of("$outstanding", 0))))),
+                stage("$sort", new Document("_id", 1)));
+
+        return mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(PaymentRollup.class), MonthlyRevenue.class)
+                .getMappedResults();
+    }
+
+    private static AggregationOperation stage(String operator, Document spec) {
+        return context -> new Document(operator, spec);
+    }
+}
@@ -0,0 +1,14 @@
+package com.corespace.tutordesk.infrastructure.repository;
+
+import com.corespace.tutordesk.domain.entity.StatusTransition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface StatusTransitionRepository extends MongoRepository<StatusTransition, String> {
+    
+    List<StatusTransition> findAllByOrderByExecutedAtDesc(Pageable pageable);
+}
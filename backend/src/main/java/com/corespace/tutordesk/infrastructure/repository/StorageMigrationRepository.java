@@ -0,0 +1,168 @@
+package com.corespace.tutordesk.infrastructure.repository;
+
+import com.corespace.tutordesk.domain.entity.MigrationCheckpoint;
+import com.corespace.tutordesk.domain.entity.Student;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.Updates;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Rewrites documents into the compact storage schema: Decimal128 money,
+ * integer status codes, normalized levels, and no stored created_at where
+ * the ObjectId carries the same time.
+ *
+ * Every conversion is an update pipeline, so each document is rewritten
+ * atomically from its current values and concurrent API writes are never
+ * lost. Pipelines are idempotent, which makes re-running a batch harmless.
+ *
+ * Progress entries from before stable ids get theirs here as well, since the
+ * V5 script only runs against an empty volume.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StorageMigrationRepository {
+    
+    public static final String MIGRATION = "compact-storage";
+    
+    private final MongoTemplate mongoTemplate;
+    
+    public MigrationCheckpoint findCheckpoint(String collection) {
+        return mongoTemplate.findById(MIGRATION + ":" + collection, MigrationCheckpoint.class);
+    }
+    
+    public void saveCheckpoint(MigrationCheckpoint checkpoint) {
+        mongoTemplate.save(checkpoint);
+    }
+    
+    public List<Object> findIdsAfter(String collection, Object lastId, int limit) {
+        Bson filter = lastId != null ? Filters.gt("_id", lastId) : new Document();
+        return mongoTemplate.getCollection(collection).find(filter)
+                .projection(Projections.include("_id"))
+                .sort(Sorts.ascending("_id"))
+                .limit(limit)
+                .map(document -> document.get("_id"))
+                .into(new ArrayList<>());
+    }
+    
+    /**
+     * Gives every progress entry without an _id one, keeping the entry's
+     * created_at as the id's timestamp. A pipeline cannot generate ObjectIds,
+     * so each student is rewritten only if its progress array is still the
+     * one that was read; a concurrent write makes it retry.
+     */
+    public long assignProgressEntryIds(String collection, List<Object> ids) {
+        MongoCollection<Document> students = mongoTemplate.getCollection(collection);
+        Bson unidentified = Filters.elemMatch("progress", Filters.exists("_id", false));
+        long assigned = 0;
+        for (Document student : students.find(Filters.and(Filters.in("_id", ids), unidentified))
+                .projection(Projections.include("progress"))) {
+            for (int attempt = 0; attempt < 3 && student != null; attempt++) {
+                List<Document> progress = student.getList("progress", Document.class);
+                List<Document> identified = new ArrayList<>(progress.size());
+                for (Document entry : progress) {
+                    Document copy = new Document(entry);
+                    if (!copy.containsKey("_id")) {
+                        Object createdAt = copy.get("created_at");
+                        copy.put("_id", createdAt instanceof Date ? new ObjectId((Date) createdAt) : new ObjectId());
+                    }
+                    identified.add(copy);
+                }
+                
+                Bson current = Filters.and(Filters.eq("_id", student.get("_id")), Filters.eq("progress", progress));
+                if (students.updateOne(current, Updates.set("progress", identified)).getModifiedCount() > 0) {
+                    assigned++;
+                    break;
+                }
+                student = students.find(Filters.and(Filters.eq("_id", student.get("_id")), unidentified))
+                        .projection(Projections.include("progress"))
+                        .first();
+            }
+        }
+        return assigned;
+    }
+    
+    public long convert(String collection, List<Object> ids, List<Document> pipeline) {
+        return mongoTemplate.getCollection(collection)
+                .updateMany(Filters.in("_id", ids), pipeline)
+                .getModifiedCount();
+    }
+    
+    public static List<Document> studentPipeline() {
+        List<Document> statusBranches = Arrays.stream(Student.StudentStatus.values())
+                .map(status -> new Document("case", new Document("$eq", List.of("$status", status.name())))
+                        .append("then", status.getCode()))
+                .collect(Collectors.toList());
+        
+        List<Document> levelBranches = Arrays.stream(Student.StudentLevel.values())
+                .map(level -> new Document("case", new Document("$in", List.of("$$level", new ArrayList<>(level.getAliases()))))
+                        .append("then", level.name()))
+                .collect(Collectors.toList());
+        
+        Document trimmedLevel = new Document("$trim", new Document("input", "$level"));
+        Document level = new Document("$cond", List.of(
+                new Document("$eq", List.of(new Document("$type", "$level"), "string")),
+                new Document("$let", new Document("vars", new Document("level", new Document("$toUpper", trimmedLevel)))
+                        .append("in", new Document("$switch", new Document("branches", levelBranches).append("default", trimmedLevel)))),
+                "$level"));
+        
+        Document progress = new Document("$cond", List.of(
+                new Document("$isArray", "$progress"),
+                new Document("$map", new Document("input", "$progress")
+                        .append("as", "p")
+                        .append("in", new Document("$cond", List.of(
+                                createdAtCarriedById("$$p._id", "$$p.created_at"),
+                                new Document("$unsetField", new Document("field", "created_at").append("input", "$$p")),
+                                "$$p")))),
+                "$progress"));
+        
+        // $$REMOVE drops the field, students imported with ids generated later keep theirs
+        Document createdAt = new Document("$cond", List.of(
+                createdAtCarriedById("$_id", "$created_at"),
+                "$$REMOVE",
+                "$created_at"));
+        
+        return List.of(new Document("$set", new Document("monthly_fee", toDecimal("monthly_fee"))
+                .append("status", new Document("$switch", new Document("branches", statusBranches).append("default", "$status")))
+                .append("level", level)
+                .append("progress", progress)
+                .append("created_at", createdAt)));
+    }
+    
+    public static List<Document> paymentRollupPipeline() {
+        return List.of(new Document("$set", new Document("expected", toDecimal("expected"))
+                .append("paid", toDecimal("paid"))
+                .append("outstanding", toDecimal("outstanding"))));
+    }
+    
+    // A stored created_at is only redundant when the ObjectId was generated at that same second
+    private static Document createdAtCarriedById(String id, String createdAt) {
+        return new Document("$and", List.of(
+                new Document("$eq", List.of(new Document("$type", id), "objectId")),
+                new Document("$eq", List.of(new Document("$type", createdAt), "date")),
+                new Document("$eq", List.of(
+                        new Document("$toDate", id),
+                        new Document("$dateTrunc", new Document("date", createdAt).append("unit", "second"))))));
+    }
+    
+    // Leaves the field alone when it is missing, null or already a decimal
+    private static Document toDecimal(String field) {
+        return new Document("$cond", List.of(
+                new Document("$in", List.of(new Document("$type", "$" + field), List.of("double", "int", "long"))),
+                new Document("$toDecimal", "$" + field),
+                "$" + field));
+    }
+}
@@ -0,0 +1,137 @@
+package com.corespace.tutordesk.infrastructure.repository;
+
+import com.corespace.tutordesk.domain.entity.Student;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.MergeOperation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Cold storage for students that no longer belong to the active roster.
+ *
+ * Archived documents keep the shape of the students collection, plus
+ * archived_at, in a zstd-compressed collection. They are moved server-side
+ * with $merge and deleted from the hot collection afterwards, so a crash
+ * in between only leaves a copy that the next run overwrites. Copies of
+ * students that stay hot are discarded; a student deleted through the API
+ * while being archived has its copy removed by the delete itself.
+ *
+ * Graduated students are archived once untouched for a while, inactive and
+ * suspended ones once their status has not changed for a while. The
+ * lifecycle job keeps bumping updated_at of the latter on its way to
+ * SUSPENDED, so status_changed_at is the only reliable clock for them.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class StudentArchiveRepository {
+    
+    public static final String ARCHIVE_COLLECTION = "students_archive";
+    
+    private final MongoTemplate mongoTemplate;
+    
+    public List<String> findArchivableIds(LocalDateTime graduatedBefore, LocalDateTime inactiveBefore, int limit) {
+        Query query = new Query(archivable(graduatedBefore, inactiveBefore)).limit(limit);
+        query.fields().include("id");
+        return mongoTemplate.find(query, Student.class).stream()
+                .map(Student::getId)
+                .collect(Collectors.toList());
+    }
+    
+    public void copyToArchive(Collection<String> ids, LocalDateTime archivedAt) {
+        TypedAggregation<Student> aggregation = Aggregation.newAggregation(Student.class,
+                        Aggregation.match(Criteria.where("id").in(ids)),
+                        stage("$set", new Document("archived_at", toDate(archivedAt))),
+                        Aggregation.merge()
+                                .intoCollection(ARCHIVE_COLLECTION)
+                                .whenMatched(MergeOperation.WhenDocumentsMatch.replaceDocument())
+                                .whenNotMatched(MergeOperation.WhenDocumentsDontMatch.insertNewDocument())
+                                .build())
+                .withOptions(AggregationOptions.builder().skipOutput().build());
+        mongoTemplate.aggregate(aggregation, Document.class);
+    }
+    
+    /**
+     * Deletes the copied students from the hot collection in one remove. The
+     * criteria are checked again and students updated since the run started
+     * are left alone, so the copy is never older than what gets deleted.
+     */
+    public long removeFromHot(Collection<String> ids, LocalDateTime graduatedBefore, LocalDateTime inactiveBefore,
+                              LocalDateTime startedAt) {
+        Query query = new Query(new Criteria().andOperator(
+                Criteria.where("id").in(ids),
+                archivable(graduatedBefore, inactiveBefore),
+                Criteria.where("updatedAt").not().gte(startedAt)));
+        return mongoTemplate.remove(query, Student.class).getDeletedCount();
+    }
+    
+    public Set<String> findHotIds(Collection<String> ids) {
+        Query query = new Query(Criteria.where("id").in(ids));
+        query.fields().include("id");
+        return mongoTemplate.find(query, Student.class).stream()
+                .map(Student::getId)
+                .collect(Collectors.toSet());
+    }
+    
+    public void discardCopies(Collection<String> ids) {
+        if (!ids.isEmpty()) {
+            log.info("{} students changed while being archived, discarding their copies", ids.size());
+            mongoTemplate.remove(new Query(Criteria.where("id").in(ids)), Student.class, ARCHIVE_COLLECTION);
+        }
+    }
+    
+    public Optional<Student> findArchived(String teacherId, String id) {
+        Query query = new Query(Criteria.where("teacherId").is(teacherId).and("id").is(id));
+        return Optional.ofNullable(mongoTemplate.findOne(query, Student.class, ARCHIVE_COLLECTION));
+    }
+    
+    public List<Student> findArchived(String teacherId, int limit) {
+        Query query = new Query(Criteria.where("teacherId").is(teacherId))
+                .with(Sort.by(Sort.Direction.DESC, "archived_at"))
+                .limit(limit);
+        return mongoTemplate.find(query, Student.class, ARCHIVE_COLLECTION);
+    }
+    
+    public boolean removeArchived(String teacherId, String id) {
+        Query query = new Query(Criteria.where("teacherId").is(teacherId).and("id").is(id));
+        return mongoTemplate.remove(query, Student.class, ARCHIVE_COLLECTION).getDeletedCount() > 0;
+    }
+    
+    // Students that changed status before status_changed_at existed fall back to updated_at
+    private static Criteria archivable(LocalDateTime graduatedBefore, LocalDateTime inactiveBefore) {
+        List<Object> inactiveOrSuspended = new ArrayList<>(Student.StudentStatus.INACTIVE.storedValues());
+        inactiveOrSuspended.addAll(Student.StudentStatus.SUSPENDED.storedValues());
+        return new Criteria().orOperator(
+                Criteria.where("status").in(Student.StudentStatus.GRADUATED.storedValues()).and("updatedAt").lt(graduatedBefore),
+                Criteria.where("status").in(inactiveOrSuspended).orOperator(
+                        Criteria.where("statusChangedAt").lt(inactiveBefore),
+                        Criteria.where("statusChangedAt").exists(false).and("updatedAt").lt(inactiveBefore)));
+    }
+    
+    private static AggregationOperation stage(String operator, Document spec) {
+        return context -> new Document(operator, spec);
+    }
+    
+    private static Date toDate(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -2,23 +2,23 @@ package com.corespace.tutordesk.infrastructure.repository;
 
 import com.corespace.tutordesk.domain.entity.Student;
 import org.springframework.data.mongodb.repository.MongoRepository;
-import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
-import java.util.List;
 import java.util.Optional;
 
+/**
+ * Every query is scoped by teacher_id, the shard key prefix, so it is routed
+ * to the shard holding that teacher's students. Reads that tolerate slight
+ * staleness live in {@link com.corespace.tutordesk.infrastructure.replica.StudentReadRepository}.
+ */
 @Repository
-public interface StudentRepository extends MongoRepository<Student, String> {
+public interface StudentRepository extends MongoRepository<Student, String>, StudentRepositoryCustom {
     
-    Optional<Student> findByEmail(String email);
+    Optional<Student> findByTeacherIdAndId(String teacherId, String id);
     
-    List<Student> findByStatus(Student.StudentStatus status);
-
-    @Query("{'subscription_expiry': {$lte: ?0}}")
-    List<Student> findStudentsWithExpiringSubscription(LocalDate expiryDate);
+    boolean existsByTeacherIdAndId(String teacherId, String id);
+    
+    long deleteByTeacherIdAndId(String teacherId, String id);
     
-    @Query("{'subscription_expiry': {$lte: ?0}, 'status': 'ACTIVE'}")
-    List<Student> findActiveStudentsWithExpiringSubscription(LocalDate expiryDate);
+    Optional<Student> findByTeacherIdAndEmail(String teacherId, String email);
 }
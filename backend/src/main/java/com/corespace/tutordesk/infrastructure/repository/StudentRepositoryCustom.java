@@ -0,0 +1,31 @@
+package com.corespace.tutordesk.infrastructure.repository;
+
+import com.corespace.tutordesk.domain.entity.ProgressEntry;
+import com.corespace.tutordesk.domain.entity.Student;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.types.ObjectId;
+import org.springframework.data.util.Pair;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface StudentRepositoryCustom {
+    
+    List<String> findDistinctTeacherIds();
+    
+    Set<String> findExistingIds(String teacherId, Collection<String> ids);
+    
+    BulkWriteResult pushProgressEntries(String teacherId, List<Pair<String, ProgressEntry>> entries, LocalDateTime updatedAt);
+    
+    Optional<ProgressEntry> updateProgressEntry(String teacherId, String studentId, ObjectId entryId, ProgressEntry changes, LocalDateTime updatedAt);
+    
+    boolean removeProgressEntry(String teacherId, String studentId, ObjectId entryId, LocalDateTime updatedAt);
+    
+    long updateStatusWhereExpiredBefore(Student.StudentStatus from, Student.StudentStatus to, LocalDate expiredBefore, LocalDateTime updatedAt);
+    
+    long updateStatusWhereChangedBefore(Student.StudentStatus from, Student.StudentStatus to, LocalDateTime changedBefore, LocalDate legacyExpiredBefore, LocalDateTime updatedAt);
+}
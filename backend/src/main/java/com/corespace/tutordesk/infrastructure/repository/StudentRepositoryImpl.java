@@ -0,0 +1,143 @@
+package com.corespace.tutordesk.infrastructure.repository;
+
+import com.corespace.tutordesk.domain.entity.ProgressEntry;
+import com.corespace.tutordesk.domain.entity.Student;
+import com.mongodb.bulk.BulkWriteResult;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class StudentRepositoryImpl implements StudentRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<String> findDistinctTeacherIds() {
+        return mongoTemplate.findDistinct(new Query(), "teacherId", Student.class, String.class);
+    }
+
+    @Override
+    public Set<String> findExistingIds(String teacherId, Collection<String> ids) {
+        Query query = new Query(Criteria.where("teacherId").is(teacherId).and("id").in(ids));
+        query.fields().include("id");
+        return mongoTemplate.find(query, Student.class).stream()
+                .map(Student::getId)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Appends each entry to its student's progress with a $push, all in one
+     * unordered bulkWrite. A failing entry does not stop the others.
+     */
+    @Override
+    public BulkWriteResult pushProgressEntries(String teacherId, List<Pair<String, ProgressEntry>> entries, LocalDateTime updatedAt) {
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Student.class);
+        for (Pair<String, ProgressEntry> entry : entries) {
+            Query query = new Query(Criteria.where("teacherId").is(teacherId).and("id").is(entry.getFirst()));
+            Update update = new Update()
+                    .push("progress", entry.getSecond())
+                    .set("updatedAt", updatedAt);
+            bulkOperations.updateOne(query, update);
+        }
+        return bulkOperations.execute();
+    }
+
+    /**
+     * Sets the non-null fields of {@code changes} on a single progress entry
+     * through an array filter, and returns the entry as it is after the update.
+     * When no field is set the entry is returned unchanged, MongoDB rejects an
+     * array filter that no update path uses.
+     */
+    @Override
+    public Optional<ProgressEntry> updateProgressEntry(String teacherId, String studentId, ObjectId entryId, ProgressEntry changes, LocalDateTime updatedAt) {
+        Query query = progressEntryQuery(teacherId, studentId, entryId);
+        query.fields().elemMatch("progress", Criteria.where("_id").is(entryId));
+
+        Update update = new Update();
+        boolean changed = setIfPresent(update, "topic", changes.getTopic())
+                | setIfPresent(update, "description", changes.getDescription())
+                | setIfPresent(update, "grade", changes.getGrade())
+                | setIfPresent(update, "max_grade", changes.getMaxGrade())
+                | setIfPresent(update, "comments", changes.getComments());
+
+        Student student = changed
+                ? mongoTemplate.findAndModify(query, update
+                                .set("updatedAt", updatedAt)
+                                .filterArray(Criteria.where("e._id").is(entryId)),
+                        FindAndModifyOptions.options().returnNew(true), Student.class)
+                : mongoTemplate.findOne(query, Student.class);
+        if (student == null || student.getProgress() == null || student.getProgress().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(student.getProgress().get(0));
+    }
+
+    @Override
+    public boolean removeProgressEntry(String teacherId, String studentId, ObjectId entryId, LocalDateTime updatedAt) {
+        Update update = new Update()
+                .pull("progress", Query.query(Criteria.where("_id").is(entryId)))
+                .set("updatedAt", updatedAt);
+        return mongoTemplate.updateFirst(progressEntryQuery(teacherId, studentId, entryId), update, Student.class)
+                .getModifiedCount() > 0;
+    }
+
+    /**
+     * Moves every matching student in one updateMany on the status +
+     * subscription_expiry index, without loading any of them. This is a
+     * housekeeping job across all teachers, so on a sharded cluster it is
+     * broadcast to every shard once.
+     */
+    @Override
+    public long updateStatusWhereExpiredBefore(Student.StudentStatus from, Student.StudentStatus to, LocalDate expiredBefore, LocalDateTime updatedAt) {
+        Query query = new Query(Criteria.where("status").in(from.storedValues())
+                .and("subscriptionExpiry").lt(expiredBefore));
+        return mongoTemplate.updateMulti(query, statusUpdate(to, updatedAt), Student.class).getModifiedCount();
+    }
+
+    // Students moved to their status before status_changed_at existed fall back to the subscription expiry
+    @Override
+    public long updateStatusWhereChangedBefore(Student.StudentStatus from, Student.StudentStatus to, LocalDateTime changedBefore,
+                                               LocalDate legacyExpiredBefore, LocalDateTime updatedAt) {
+        Query query = new Query(Criteria.where("status").in(from.storedValues())
+                .orOperator(
+                        Criteria.where("statusChangedAt").lt(changedBefore),
+                        Criteria.where("statusChangedAt").exists(false).and("subscriptionExpiry").lt(legacyExpiredBefore)));
+        return mongoTemplate.updateMulti(query, statusUpdate(to, updatedAt), Student.class).getModifiedCount();
+    }
+
+    private static Update statusUpdate(Student.StudentStatus to, LocalDateTime updatedAt) {
+        return new Update()
+                .set("status", to)
+                .set("statusChangedAt", updatedAt)
+                .set("updatedAt", updatedAt);
+    }
+
+    private static Query progressEntryQuery(String teacherId, String studentId, ObjectId entryId) {
+        return new Query(Criteria.where("teacherId").is(teacherId)
+                .and("id").is(studentId)
+                .and("progress._id").is(entryId));
+    }
+
+    private static boolean setIfPresent(Update update, String field, Object value) {
+        if (value == null) {
+            return false;
+        }
+        update.set("progress.$[e]." + field, value);
+        return true;
+    }
+}
@@ -0,0 +1,90 @@
+package com.corespace.tutordesk.infrastructure.tenant;
+
+import com.corespace.tutordesk.domain.entity.Payment;
+import com.corespace.tutordesk.domain.entity.PaymentRollup;
+import com.corespace.tutordesk.domain.entity.Student;
+import com.corespace.tutordesk.infrastructure.repository.StudentArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Assigns data written before multi-tenancy to the default teacher. Every
+ * tenant-scoped query filters on teacher_id, so documents without one would
+ * be invisible through the API. The init scripts only run on an empty volume,
+ * which is why upgraded deployments rely on this instead.
+ *
+ * Each collection is first probed for a document without teacher_id, which
+ * the teacher_id-prefixed indexes answer without a scan, and only then
+ * updated; once everything is assigned no updateMany is sent at all.
+ *
+ * The global unique email_1 index from before multi-tenancy is dropped as
+ * well, it would reject the same email for two teachers. Called by {@link com.corespace.tutordesk.infrastructure.config.MongoIndexReconciler}
+ * together with the index builds.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TenantBackfill {
+    
+    private final MongoTemplate mongoTemplate;
+    
+    @Value("${app.tenant.default-id:default}")
+    private String defaultTeacherId;
+    
+    public static final String LEGACY_EMAIL_INDEX = "email_1";
+    
+    public long assignDefaultTeacher() {
+        List<String> collections = List.of(
+                mongoTemplate.getCollectionName(Student.class),
+                StudentArchiveRepository.ARCHIVE_COLLECTION,
+                mongoTemplate.getCollectionName(Payment.class),
+                mongoTemplate.getCollectionName(PaymentRollup.class));
+        
+        long assigned = 0;
+        for (String collection : collections) {
+            try {
+                Query unassigned = new Query(Criteria.where("teacher_id").exists(false));
+                if (!mongoTemplate.exists(unassigned, collection)) {
+                    continue;
+                }
+                long modified = mongoTemplate.updateMulti(
+                        unassigned,
+                        new Update().set("teacher_id", defaultTeacherId),
+                        collection).getModifiedCount();
+                if (modified > 0) {
+                    log.info("Assigned {} documents in {} to teacher {}", modified, collection, defaultTeacherId);
+                }
+                assigned += modified;
+            } catch (Exception e) {
+                log.error("Could not assign documents in {} to teacher {}", collection, defaultTeacherId, e);
+            }
+        }
+        return assigned;
+    }
+    
+    public boolean dropLegacyEmailIndex() {
+        try {
+            IndexOperations indexOperations = mongoTemplate.indexOps(Student.class);
+            boolean present = indexOperations.getIndexInfo().stream()
+                    .anyMatch(index -> LEGACY_EMAIL_INDEX.equals(index.getName()));
+            if (!present) {
+                return false;
+            }
+            indexOperations.dropIndex(LEGACY_EMAIL_INDEX);
+            log.info("Dropped legacy index {} on {}", LEGACY_EMAIL_INDEX, mongoTemplate.getCollectionName(Student.class));
+            return true;
+        } catch (Exception e) {
+            log.error("Could not drop legacy index {}", LEGACY_EMAIL_INDEX, e);
+            return false;
+        }
+    }
+}
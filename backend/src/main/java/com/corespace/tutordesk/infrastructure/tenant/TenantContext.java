@@ -0,0 +1,43 @@
+package com.corespace.tutordesk.infrastructure.tenant;
+
+/**
+ * Holds the teacher (tenant) the current thread works for. Bound per request
+ * by {@link TenantFilter}; background jobs bind it with {@link #runAs}.
+ */
+public final class TenantContext {
+    
+    private static final ThreadLocal<String> CURRENT_TEACHER = new ThreadLocal<>();
+    
+    private TenantContext() {
+    }
+    
+    public static String getTeacherId() {
+        String teacherId = CURRENT_TEACHER.get();
+        if (teacherId == null) {
+            throw new IllegalStateException("No teacher bound to the current thread");
+        }
+        return teacherId;
+    }
+    
+    public static void setTeacherId(String teacherId) {
+        CURRENT_TEACHER.set(teacherId);
+    }
+    
+    public static void clear() {
+        CURRENT_TEACHER.remove();
+    }
+    
+    public static void runAs(String teacherId, Runnable task) {
+        String previous = CURRENT_TEACHER.get();
+        CURRENT_TEACHER.set(teacherId);
+        try {
+            task.run();
+        } finally {
+            if (previous != null) {
+                CURRENT_TEACHER.set(previous);
+            } else {
+                CURRENT_TEACHER.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.corespace.tutordesk.infrastructure.tenant;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class TenantFilter extends OncePerRequestFilter {
+    
+    private static final Pattern TEACHER_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    
+    @Value("${app.tenant.header:X-Teacher-Id}")
+    private String tenantHeader;
+    
+    // Single-teacher deployments can keep calling the API without the header
+    @Value("${app.tenant.default-id:default}")
+    private String defaultTeacherId;
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String teacherId = request.getHeader(tenantHeader);
+        if (teacherId == null || teacherId.isBlank()) {
+            teacherId = defaultTeacherId;
+        }
+        
+        if (!TEACHER_ID.matcher(teacherId).matches()) {
+            log.warn("Rejected request with invalid {} header", tenantHeader);
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "Invalid " + tenantHeader + " header");
+            return;
+        }
+        
+        TenantContext.setTeacherId(teacherId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+// Create payments ledger as a time-series collection
+db.createCollection("payments", {
+  timeseries: {
+    timeField: "date",
+    metaField: "student_id",
+    granularity: "hours"
+  }
+});
+
+db.payments.createIndex({ "student_id": 1, "date": -1 }, { name: "student_date_idx" });
+
+// Create monthly rollups with indexes for revenue and outstanding balance queries
+db.createCollection("payment_monthly_rollups");
+db.payment_monthly_rollups.createIndex({ "period": 1, "outstanding": -1 }, { name: "period_outstanding_idx" });
+db.payment_monthly_rollups.createIndex({ "student_id": 1, "period": 1 }, { name: "student_period_idx" });
+
+// Move payments embedded in student documents into the ledger
+db.students.find({ "payments.0": { $exists: true } }).forEach(function (student) {
+  var studentId = student._id.toString();
+
+  student.payments.forEach(function (payment) {
+    var period = payment.date.toISOString().substring(0, 7);
+
+    db.payments.insertOne({
+      "student_id": studentId,
+      "date": payment.date,
+      "amount": payment.amount,
+      "method": payment.method,
+      "reference": payment.reference,
+      "status": payment.status,
+      "period": period,
+      "notes": payment.notes,
+      "created_at": payment.created_at
+    });
+
+    if (payment.status === "COMPLETED") {
+      db.payment_monthly_rollups.updateOne(
+        { "_id": studentId + ":" + period },
+        [
+          { $set: {
+              "student_id": studentId,
+              "period": period,
+              "expected": { $ifNull: ["$expected", student.monthly_fee] },
+              "paid": { $add: [{ $ifNull: ["$paid", 0] }, payment.amount] },
+              "payments": { $add: [{ $ifNull: ["$payments", 0] }, 1] },
+              "updated_at": new Date()
+          } },
+          { $set: { "outstanding": { $subtract: ["$expected", "$paid"] } } }
+        ],
+        { upsert: true }
+      );
+    }
+  });
+});
+
+db.students.updateMany({ "payments": { $exists: true } }, { $unset: { "payments": "" } });
+
+print("V3 migration completed: Payments ledger and monthly rollups created");
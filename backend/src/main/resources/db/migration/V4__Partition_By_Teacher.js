@@ -0,0 +1,33 @@
+// Assign existing data to the default teacher
+var defaultTeacher = "default";
+
+db.students.updateMany({ "teacher_id": { $exists: false } }, { $set: { "teacher_id": defaultTeacher } });
+db.payments.updateMany({ "teacher_id": { $exists: false } }, { $set: { "teacher_id": defaultTeacher } });
+db.payment_monthly_rollups.updateMany({ "teacher_id": { $exists: false } }, { $set: { "teacher_id": defaultTeacher } });
+
+// Email uniqueness is now scoped per teacher
+db.students.dropIndex("email_1");
+
+// Tenant-prefixed indexes, every query starts with teacher_id
+db.students.createIndex({ "teacher_id": 1, "_id": 1 });
+db.students.createIndex({ "teacher_id": 1, "email": 1 }, { unique: true, name: "teacher_email_idx" });
+db.students.createIndex({ "teacher_id": 1, "status": 1, "subscription_expiry": 1 }, { name: "teacher_status_expiry_idx" });
+
+db.payments.createIndex({ "teacher_id": 1, "date": -1 }, { name: "teacher_date_idx" });
+
+db.payment_monthly_rollups.dropIndex("period_outstanding_idx");
+db.payment_monthly_rollups.dropIndex("student_period_idx");
+db.payment_monthly_rollups.createIndex({ "teacher_id": 1, "period": 1, "outstanding": -1 }, { name: "teacher_period_outstanding_idx" });
+db.payment_monthly_rollups.createIndex({ "teacher_id": 1, "student_id": 1, "period": 1 }, { name: "teacher_student_period_idx" });
+
+// Analytics are now grouped per teacher, rebuild them from scratch on the next refresh
+db.analytics_student_facts.drop();
+db.analytics_grade_by_level_topic.drop();
+db.analytics_retention_by_start_month.drop();
+db.analytics_revenue_by_level.drop();
+db.analytics_watermarks.deleteMany({});
+
+// Init scripts run against a standalone mongod, sharding students by teacher
+// is an ops step against mongos, see "Teachers (Tenants)" in the README.
+
+print("V4 migration completed: Students partitioned by teacher");
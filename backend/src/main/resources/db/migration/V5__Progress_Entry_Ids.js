@@ -0,0 +1,23 @@
+// Give every existing progress entry its own _id so it can be edited or removed individually
+var batch = [];
+
+db.students.find({ "progress": { $elemMatch: { "_id": { $exists: false } } } }, { "progress": 1 }).forEach(function (student) {
+  var progress = student.progress.map(function (entry) {
+    if (!entry._id) {
+      entry._id = new ObjectId();
+    }
+    return entry;
+  });
+
+  batch.push({ updateOne: { filter: { "_id": student._id }, update: { $set: { "progress": progress } } } });
+  if (batch.length === 500) {
+    db.students.bulkWrite(batch, { ordered: false });
+    batch = [];
+  }
+});
+
+if (batch.length > 0) {
+  db.students.bulkWrite(batch, { ordered: false });
+}
+
+print("V5 migration completed: Progress entries have ids");
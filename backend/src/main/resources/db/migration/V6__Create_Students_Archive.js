@@ -0,0 +1,11 @@
+// Cold storage for graduated and long-inactive students, zstd compressed
+db.createCollection("students_archive", {
+  storageEngine: { wiredTiger: { configString: "block_compressor=zstd" } }
+});
+
+db.students_archive.createIndex({ "teacher_id": 1, "archived_at": -1 }, { name: "teacher_archived_at_idx" });
+
+// Lets the archival run find candidates without scanning the roster
+db.students.createIndex({ "status": 1, "updated_at": 1 }, { name: "status_updated_at_idx" });
+
+print("V6 migration completed: Students archive created");
@@ -0,0 +1,8 @@
+// Compact storage schema: Decimal128 money, integer status codes, normalized levels.
+// Existing documents are rewritten in batches by the application (StorageMigrationService),
+// so this script only changes what does not touch documents.
+
+// created_at is only kept where the ObjectId does not carry the creation time, nothing queries it
+db.students.dropIndex("created_at_1");
+
+print("V7 migration completed: created_at index dropped, documents migrate in the background");
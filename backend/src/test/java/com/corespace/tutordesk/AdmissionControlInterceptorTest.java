@@ -0,0 +1,73 @@
+package com.corespace.tutordesk;
+
+import com.corespace.tutordesk.application.dto.StudentDto;
+import com.corespace.tutordesk.application.service.impl.NotificationServiceImpl;
+import com.corespace.tutordesk.application.service.impl.StudentServiceImpl;
+import com.corespace.tutordesk.infrastructure.controller.StudentController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(StudentController.class)
+@TestPropertySource(properties = {
+        "app.admission.heavy.requests-per-second=0.01",
+        "app.admission.heavy.burst=1",
+        "app.admission.cheap.max-concurrent=0",
+        "app.admission.cheap.max-queue=0",
+        "app.admission.cheap.retry-after-seconds=7"
+})
+public class AdmissionControlInterceptorTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private StudentServiceImpl studentService;
+
+    @MockBean
+    private NotificationServiceImpl notificationService;
+
+    @Test
+    void testClientOverItsRateGets429WithRetryAfter() throws Exception {
+        when(studentService.getAllStudents()).thenReturn(List.of(StudentDto.builder().id("1").build()));
+
+        mockMvc.perform(get("/students").with(from("10.0.0.1")))
+                .andExpect(status().isOk());
+
+        // A different tenant header from the same address shares the bucket
+        mockMvc.perform(get("/students").with(from("10.0.0.1")).header("X-Teacher-Id", "teacher-42"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+
+        mockMvc.perform(get("/students").with(from("10.0.0.2")))
+                .andExpect(status().isOk());
+
+        verify(studentService, times(2)).getAllStudents();
+    }
+
+    @Test
+    void testSaturatedClassGets503WithRetryAfter() throws Exception {
+        mockMvc.perform(get("/students/1").with(from("10.0.0.3")))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "7"));
+
+        verify(studentService, never()).getStudentById("1");
+    }
+
+    private static RequestPostProcessor from(String remoteAddress) {
+        return request -> {
+            request.setRemoteAddr(remoteAddress);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package com.corespace.tutordesk;
+
+import com.corespace.tutordesk.infrastructure.admission.AdmissionLimiter;
+import com.corespace.tutordesk.infrastructure.admission.CostClass;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdmissionLimiterTest {
+
+    private static AdmissionLimiter limiter(int maxConcurrent, int maxQueue, double requestsPerSecond, int burst) {
+        return new AdmissionLimiter(CostClass.HEAVY, AdmissionLimiter.Limits.builder()
+                .maxConcurrent(maxConcurrent)
+                .maxQueue(maxQueue)
+                .maxWaitMillis(10)
+                .requestsPerSecond(requestsPerSecond)
+                .burst(burst)
+                .retryAfterSeconds(5)
+                .build());
+    }
+
+    @Test
+    void testClientOverItsRateGets429() throws Exception {
+        AdmissionLimiter limiter = limiter(10, 10, 0.5, 2);
+
+        assertTrue(limiter.acquire("teacher-a").isAdmitted());
+        assertTrue(limiter.acquire("teacher-a").isAdmitted());
+
+        AdmissionLimiter.Decision decision = limiter.acquire("teacher-a");
+        assertFalse(decision.isAdmitted());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, decision.getRejection().getStatus());
+        assertEquals(2, decision.getRetryAfterSeconds());
+
+        // Other clients have their own bucket
+        assertTrue(limiter.acquire("teacher-b").isAdmitted());
+        assertEquals(1, limiter.getRejectedCount(AdmissionLimiter.Rejection.RATE_LIMITED));
+    }
+
+    @Test
+    void testSaturatedClassGets503() throws Exception {
+        AdmissionLimiter limiter = limiter(1, 0, 100, 100);
+
+        assertTrue(limiter.acquire("teacher-a").isAdmitted());
+        assertEquals(1, limiter.getInFlight());
+
+        AdmissionLimiter.Decision decision = limiter.acquire("teacher-b");
+        assertFalse(decision.isAdmitted());
+        assertEquals(AdmissionLimiter.Rejection.QUEUE_FULL, decision.getRejection());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, decision.getRejection().getStatus());
+        assertEquals(5, decision.getRetryAfterSeconds());
+
+        limiter.release();
+        assertTrue(limiter.acquire("teacher-b").isAdmitted());
+    }
+
+    @Test
+    void testQueuedRequestTimesOut() throws Exception {
+        AdmissionLimiter limiter = limiter(1, 1, 100, 100);
+
+        assertTrue(limiter.acquire("teacher-a").isAdmitted());
+
+        AdmissionLimiter.Decision decision = limiter.acquire("teacher-b");
+        assertEquals(AdmissionLimiter.Rejection.QUEUE_TIMEOUT, decision.getRejection());
+        assertEquals(0, limiter.getQueueDepth());
+    }
+}
@@ -0,0 +1,87 @@
+package com.corespace.tutordesk;
+
+import com.corespace.tutordesk.application.dto.AnalyticsRefreshResultDto;
+import com.corespace.tutordesk.application.dto.GradeSummaryDto;
+import com.corespace.tutordesk.application.dto.RevenueSummaryDto;
+import com.corespace.tutordesk.application.service.impl.AnalyticsServiceImpl;
+import com.corespace.tutordesk.infrastructure.controller.AnalyticsController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AnalyticsController.class)
+public class AnalyticsControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AnalyticsServiceImpl analyticsService;
+
+    @Test
+    void testGetGradeSummariesByLevel() throws Exception {
+        GradeSummaryDto summary = GradeSummaryDto.builder()
+                .level("BEGINNER")
+                .topic("Algebra")
+                .averageGrade(87.5)
+                .entries(4)
+                .build();
+
+        when(analyticsService.getGradeSummaries("BEGINNER")).thenReturn(List.of(summary));
+
+        mockMvc.perform(get("/analytics/grades").param("level", "Beginner"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].topic").value("Algebra"))
+                .andExpect(jsonPath("$[0].averageGrade").value(87.5));
+    }
+
+    @Test
+    void testGetGradeSummariesByUnknownLevel() throws Exception {
+        mockMvc.perform(get("/analytics/grades").param("level", "Expert"))
+                .andExpect(status().isBadRequest());
+
+        verify(analyticsService, never()).getGradeSummaries(anyString());
+    }
+
+    @Test
+    void testGetRevenueSummaries() throws Exception {
+        RevenueSummaryDto summary = RevenueSummaryDto.builder()
+                .level("Advanced")
+                .students(3)
+                .activeStudents(2)
+                .monthlyRevenue(360.0)
+                .build();
+
+        when(analyticsService.getRevenueSummaries()).thenReturn(List.of(summary));
+
+        mockMvc.perform(get("/analytics/revenue"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].monthlyRevenue").value(360.0));
+    }
+
+    @Test
+    void testIncrementalRefresh() throws Exception {
+        AnalyticsRefreshResultDto result = AnalyticsRefreshResultDto.builder()
+                .fullRefresh(false)
+                .refreshedAt(LocalDateTime.now())
+                .studentsReprocessed(5)
+                .build();
+
+        when(analyticsService.refresh(false)).thenReturn(result);
+
+        mockMvc.perform(post("/analytics/refresh"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.studentsReprocessed").value(5));
+
+        verify(analyticsService, times(1)).refresh(false);
+    }
+}
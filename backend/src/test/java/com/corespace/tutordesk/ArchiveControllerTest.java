@@ -0,0 +1,58 @@
+package com.corespace.tutordesk;
+
+import com.corespace.tutordesk.application.dto.ArchiveRunDto;
+import com.corespace.tutordesk.application.dto.StudentDto;
+import com.corespace.tutordesk.application.service.impl.StudentArchiveServiceImpl;
+import com.corespace.tutordesk.domain.entity.Student;
+import com.corespace.tutordesk.infrastructure.controller.ArchiveController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ArchiveController.class)
+public class ArchiveControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private StudentArchiveServiceImpl studentArchiveService;
+
+    @Test
+    void testArchiveStudents() throws Exception {
+        ArchiveRunDto result = ArchiveRunDto.builder()
+                .archived(1200L)
+                .batches(3)
+                .build();
+
+        when(studentArchiveService.archiveStudents()).thenReturn(result);
+
+        mockMvc.perform(post("/archive/run"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.archived").value(1200))
+                .andExpect(jsonPath("$.batches").value(3));
+
+        verify(studentArchiveService, times(1)).archiveStudents();
+    }
+
+    @Test
+    void testRestoreStudent() throws Exception {
+        StudentDto restored = StudentDto.builder()
+                .id("1")
+                .name("John Doe")
+                .status(Student.StudentStatus.GRADUATED)
+                .build();
+
+        when(studentArchiveService.restoreStudent("1")).thenReturn(restored);
+
+        mockMvc.perform(post("/archive/students/1/restore"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("1"))
+                .andExpect(jsonPath("$.archived").doesNotExist());
+    }
+}
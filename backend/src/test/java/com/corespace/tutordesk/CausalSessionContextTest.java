@@ -0,0 +1,49 @@
+package com.corespace.tutordesk;
+
+import com.corespace.tutordesk.infrastructure.consistency.CausalConsistencyFilter;
+import com.corespace.tutordesk.infrastructure.consistency.CausalSessionContext;
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.client.MongoClient;
+import org.bson.BsonTimestamp;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CausalSessionContextTest {
+
+    @Test
+    void testTokenRoundTrip() {
+        BsonTimestamp operationTime = new BsonTimestamp(1718035200, 3);
+
+        String token = CausalSessionContext.toToken(operationTime);
+
+        assertEquals("1718035200.3", token);
+        assertEquals(operationTime, CausalSessionContext.fromToken(token));
+    }
+
+    @Test
+    void testInvalidTokensAreIgnored() {
+        assertNull(CausalSessionContext.fromToken(null));
+        assertNull(CausalSessionContext.fromToken(""));
+        assertNull(CausalSessionContext.fromToken("1718035200"));
+        assertNull(CausalSessionContext.fromToken("abc.def"));
+    }
+
+    @Test
+    void testRequestsWithoutDatabaseAccessStartNoSession() throws Exception {
+        MongoClient mongoClient = mock(MongoClient.class);
+        CausalConsistencyFilter filter = new CausalConsistencyFilter(mongoClient);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+        request.addHeader(CausalSessionContext.TOKEN_HEADER, "1718035200.3");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(mongoClient, never()).startSession(any(ClientSessionOptions.class));
+        assertNull(CausalSessionContext.current());
+    }
+}
@@ -0,0 +1,63 @@
+package com.corespace.tutordesk;
+
+import com.corespace.tutordesk.application.dto.StatusTransitionDto;
+import com.corespace.tutordesk.application.service.impl.StudentLifecycleServiceImpl;
+import com.corespace.tutordesk.domain.entity.Student;
+import com.corespace.tutordesk.infrastructure.controller.LifecycleController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(LifecycleController.class)
+public class LifecycleControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private StudentLifecycleServiceImpl studentLifecycleService;
+
+    @Test
+    void testApplyStatusTransitions() throws Exception {
+        StatusTransitionDto expired = StatusTransitionDto.builder()
+                .rule("subscription-expired")
+                .fromStatus(Student.StudentStatus.ACTIVE)
+                .toStatus(Student.StudentStatus.INACTIVE)
+                .affected(12L)
+                .build();
+        StatusTransitionDto lapsed = StatusTransitionDto.builder()
+                .rule("inactive-grace-period-elapsed")
+                .fromStatus(Student.StudentStatus.INACTIVE)
+                .toStatus(Student.StudentStatus.SUSPENDED)
+                .affected(3L)
+                .build();
+
+        when(studentLifecycleService.applyStatusTransitions()).thenReturn(List.of(expired, lapsed));
+
+        mockMvc.perform(post("/lifecycle/transitions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].affected").value(12))
+                .andExpect(jsonPath("$[1].toStatus").value("SUSPENDED"));
+
+        verify(studentLifecycleService, times(1)).applyStatusTransitions();
+    }
+
+    @Test
+    void testRejectsInvalidHistoryLimit() throws Exception {
+        mockMvc.perform(get("/lifecycle/transitions").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/lifecycle/transitions").param("limit", "-5"))
+                .andExpect(status().isBadRequest());
+
+        verify(studentLifecycleService, never()).getTransitionHistory(anyInt());
+    }
+}
@@ -0,0 +1,120 @@
+package com.corespace.tutordesk;
+
+import com.corespace.tutordesk.application.dto.MonthlyRevenueDto;
+import com.corespace.tutordesk.application.dto.PaymentDto;
+import com.corespace.tutordesk.application.dto.RecordPaymentRequest;
+import com.corespace.tutordesk.application.service.impl.PaymentServiceImpl;
+import com.corespace.tutordesk.domain.entity.Payment;
+import com.corespace.tutordesk.infrastructure.controller.PaymentController;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(PaymentController.class)
+public class PaymentControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private PaymentServiceImpl paymentService;
+
+    @Test
+    void testRecordPayment() throws Exception {
+        RecordPaymentRequest request = RecordPaymentRequest.builder()
+                .studentId("1")
+                .amount(150.0)
+                .method(Payment.PaymentMethod.PIX)
+                .period("2024-01")
+                .build();
+
+        PaymentDto response = PaymentDto.builder()
+                .id("p1")
+                .studentId("1")
+                .amount(150.0)
+                .status(Payment.PaymentStatus.COMPLETED)
+                .period("2024-01")
+                .build();
+
+        when(paymentService.recordPayment(any(RecordPaymentRequest.class))).thenReturn(response);
+
+        mockMvc.perform(post("/payments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value("p1"))
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+    }
+
+    @Test
+    void testRecordPaymentRejectsInvalidPeriod() throws Exception {
+        RecordPaymentRequest request = RecordPaymentRequest.builder()
+                .studentId("1")
+                .amount(150.0)
+                .method(Payment.PaymentMethod.CASH)
+                .period("January")
+                .build();
+
+        mockMvc.perform(post("/payments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(paymentService, never()).recordPayment(any(RecordPaymentRequest.class));
+    }
+
+    @Test
+    void testGetMonthlyRevenue() throws Exception {
+        MonthlyRevenueDto january = MonthlyRevenueDto.builder()
+                .period("2024-01")
+                .students(2)
+                .expected(270.0)
+                .paid(150.0)
+                .outstanding(120.0)
+                .build();
+
+        when(paymentService.getMonthlyRevenue("2024-01", "2024-03")).thenReturn(List.of(january));
+
+        mockMvc.perform(get("/payments/monthly").param("from", "2024-01").param("to", "2024-03"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].outstanding").value(120.0));
+    }
+
+    @Test
+    void testRejectsInvalidPeriod() throws Exception {
+        RecordPaymentRequest request = RecordPaymentRequest.builder()
+                .studentId("1")
+                .amount(150.0)
+                .method(Payment.PaymentMethod.PIX)
+                .period("2024-13")
+                .build();
+
+        mockMvc.perform(post("/payments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/payments/periods/2024-13/open"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/payments/outstanding").param("period", "2024-00"))
+                .andExpect(status().isBadRequest());
+
+        verify(paymentService, never()).openPeriod(anyString());
+        verify(paymentService, never()).getOutstandingBalances(anyString());
+    }
+}
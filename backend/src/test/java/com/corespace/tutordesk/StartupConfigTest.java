@@ -0,0 +1,30 @@
+package com.corespace.tutordesk;
+
+import com.corespace.tutordesk.application.scheduler.AnalyticsScheduler;
+import com.corespace.tutordesk.application.scheduler.SubscriptionScheduler;
+import com.corespace.tutordesk.application.service.impl.StudentServiceImpl;
+import com.corespace.tutordesk.infrastructure.config.MongoIndexReconciler;
+import com.corespace.tutordesk.infrastructure.config.StartupConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StartupConfigTest {
+
+    private final LazyInitializationExcludeFilter filter = StartupConfig.eagerInfrastructureFilter();
+
+    @Test
+    void testSchedulersAndIndexReconcilerStayEager() {
+        assertTrue(filter.isExcluded("analyticsScheduler", null, AnalyticsScheduler.class));
+        assertTrue(filter.isExcluded("subscriptionScheduler", null, SubscriptionScheduler.class));
+        assertTrue(filter.isExcluded("mongoIndexReconciler", null, MongoIndexReconciler.class));
+    }
+
+    @Test
+    void testServicesAreLazy() {
+        assertFalse(filter.isExcluded("studentServiceImpl", null, StudentServiceImpl.class));
+        assertFalse(filter.isExcluded("unknown", null, null));
+    }
+}
@@ -0,0 +1,63 @@
+package com.corespace.tutordesk;
+
+import com.corespace.tutordesk.application.dto.StorageMigrationStatusDto;
+import com.corespace.tutordesk.application.service.impl.StorageMigrationServiceImpl;
+import com.corespace.tutordesk.infrastructure.controller.StorageMigrationController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(StorageMigrationController.class)
+public class StorageMigrationControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private StorageMigrationServiceImpl storageMigrationService;
+
+    @Test
+    void testRunMigration() throws Exception {
+        List<StorageMigrationStatusDto> status = List.of(
+                StorageMigrationStatusDto.builder()
+                        .collection("students")
+                        .migrated(1500L)
+                        .lastId("665f1c2e9b1d8a3f4c2e7a10")
+                        .completed(true)
+                        .build(),
+                StorageMigrationStatusDto.builder()
+                        .collection("payment_monthly_rollups")
+                        .migrated(0L)
+                        .completed(false)
+                        .build());
+
+        when(storageMigrationService.runMigration()).thenReturn(status);
+
+        mockMvc.perform(post("/storage-migration/run"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].migrated").value(1500))
+                .andExpect(jsonPath("$[0].completed").value(true))
+                .andExpect(jsonPath("$[1].completed").value(false));
+
+        verify(storageMigrationService, times(1)).runMigration();
+    }
+
+    @Test
+    void testGetStatus() throws Exception {
+        when(storageMigrationService.getStatus()).thenReturn(List.of(
+                StorageMigrationStatusDto.builder().collection("students").migrated(0L).completed(false).build()));
+
+        mockMvc.perform(get("/storage-migration"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].collection").value("students"));
+
+        verify(storageMigrationService, never()).runMigration();
+    }
+}
@@ -0,0 +1,192 @@
+package com.corespace.tutordesk;
+
+import com.corespace.tutordesk.application.dto.ArchiveRunDto;
+import com.corespace.tutordesk.application.service.StudentService;
+import com.corespace.tutordesk.application.service.impl.StudentArchiveServiceImpl;
+import com.corespace.tutordesk.application.service.impl.StudentLifecycleServiceImpl;
+import com.corespace.tutordesk.domain.entity.Student;
+import com.corespace.tutordesk.infrastructure.repository.AnalyticsRepository;
+import com.corespace.tutordesk.infrastructure.repository.StatusTransitionRepository;
+import com.corespace.tutordesk.infrastructure.repository.StudentArchiveRepository;
+import com.corespace.tutordesk.infrastructure.repository.StudentRepository;
+import com.mongodb.client.result.DeleteResult;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The archive queries are evaluated in memory against the fields the
+ * lifecycle job writes, so the two rules are checked against each other
+ * without a database.
+ */
+public class StudentArchivalTest {
+
+    private MongoTemplate mongoTemplate;
+    private StudentArchiveRepository studentArchiveRepository;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        studentArchiveRepository = new StudentArchiveRepository(mongoTemplate);
+    }
+
+    @Test
+    void testStudentSuspendedByLifecycleIsArchived() {
+        StudentRepository studentRepository = mock(StudentRepository.class);
+        StatusTransitionRepository statusTransitionRepository = mock(StatusTransitionRepository.class);
+        when(statusTransitionRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        StudentLifecycleServiceImpl lifecycleService = new StudentLifecycleServiceImpl(studentRepository, statusTransitionRepository);
+        ReflectionTestUtils.setField(lifecycleService, "inactiveGraceDays", 30);
+
+        lifecycleService.applyStatusTransitions();
+
+        // The transition sets status_changed_at and updated_at to the time it ran
+        ArgumentCaptor<LocalDateTime> suspendedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(studentRepository).updateStatusWhereChangedBefore(eq(Student.StudentStatus.INACTIVE),
+                eq(Student.StudentStatus.SUSPENDED), any(), any(), suspendedAt.capture());
+        Document student = new Document("status", Student.StudentStatus.SUSPENDED.getCode())
+                .append("statusChangedAt", suspendedAt.getValue())
+                .append("updatedAt", suspendedAt.getValue());
+
+        assertFalse(matches(archivableQuery(suspendedAt.getValue().plusDays(179)), student));
+        assertTrue(matches(archivableQuery(suspendedAt.getValue().plusDays(181)), student));
+    }
+
+    @Test
+    void testInactiveStudentIsArchivedFromItsStatusChange() {
+        LocalDateTime now = LocalDateTime.now();
+        Document touchedRecently = new Document("status", Student.StudentStatus.INACTIVE.getCode())
+                .append("statusChangedAt", now.minusDays(200))
+                .append("updatedAt", now.minusDays(5));
+        Document legacy = new Document("status", Student.StudentStatus.INACTIVE.name())
+                .append("updatedAt", now.minusDays(200));
+        Document active = new Document("status", Student.StudentStatus.ACTIVE.getCode())
+                .append("statusChangedAt", now.minusDays(200))
+                .append("updatedAt", now.minusDays(200));
+
+        Document query = archivableQuery(now);
+        assertTrue(matches(query, touchedRecently));
+        assertTrue(matches(query, legacy));
+        assertFalse(matches(query, active));
+    }
+
+    @Test
+    void testStudentUpdatedDuringTheRunStaysHot() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        when(mongoTemplate.remove(any(Query.class), eq(Student.class))).thenReturn(DeleteResult.acknowledged(1));
+        studentArchiveRepository.removeFromHot(List.of("student-1"), startedAt.minusDays(30), startedAt.minusDays(180), startedAt);
+
+        ArgumentCaptor<Query> removed = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).remove(removed.capture(), eq(Student.class));
+        Document student = new Document("_id", "student-1")
+                .append("status", Student.StudentStatus.SUSPENDED.getCode())
+                .append("statusChangedAt", startedAt.minusDays(200));
+
+        assertTrue(matches(removed.getValue().getQueryObject(), new Document(student).append("updatedAt", startedAt.minusDays(1))));
+        assertFalse(matches(removed.getValue().getQueryObject(), new Document(student).append("updatedAt", startedAt.plusSeconds(1))));
+    }
+
+    @Test
+    void testArchiveRunDiscardsCopiesOfStudentsThatStayHot() {
+        StudentArchiveRepository archiveRepository = mock(StudentArchiveRepository.class);
+        AnalyticsRepository analyticsRepository = mock(AnalyticsRepository.class);
+        StudentArchiveServiceImpl archiveService = new StudentArchiveServiceImpl(
+                mock(StudentRepository.class), archiveRepository, analyticsRepository, mock(StudentService.class));
+        ReflectionTestUtils.setField(archiveService, "batchSize", 10);
+        ReflectionTestUtils.setField(archiveService, "graduatedAfterDays", 30);
+        ReflectionTestUtils.setField(archiveService, "inactiveAfterDays", 180);
+        when(archiveRepository.findArchivableIds(any(), any(), anyInt())).thenReturn(List.of("student-1", "student-2", "student-3"));
+        when(archiveRepository.removeFromHot(any(), any(), any(), any())).thenReturn(2L);
+        when(archiveRepository.findHotIds(any())).thenReturn(Set.of("student-2"));
+
+        ArchiveRunDto run = archiveService.archiveStudents();
+
+        assertEquals(2, run.getArchived());
+        assertEquals(1, run.getBatches());
+        verify(archiveRepository).discardCopies(Set.of("student-2"));
+        verify(analyticsRepository).recordRemovedStudents(List.of("student-1", "student-3"), run.getExecutedAt());
+    }
+
+    private Document archivableQuery(LocalDateTime executedAt) {
+        studentArchiveRepository.findArchivableIds(executedAt.minusDays(30), executedAt.minusDays(180), 10);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, atLeastOnce()).find(query.capture(), eq(Student.class));
+        return query.getValue().getQueryObject();
+    }
+
+    // Just enough of the query language for the criteria above: $or, $and, $in, $lt, $gte, $not and $exists
+    @SuppressWarnings("unchecked")
+    private static boolean matches(Document query, Document student) {
+        for (Map.Entry<String, Object> clause : query.entrySet()) {
+            String key = clause.getKey().equals("id") ? "_id" : clause.getKey();
+            if (key.equals("$or")) {
+                if (((List<Document>) clause.getValue()).stream().noneMatch(branch -> matches(branch, student))) {
+                    return false;
+                }
+            } else if (key.equals("$and")) {
+                if (!((List<Document>) clause.getValue()).stream().allMatch(branch -> matches(branch, student))) {
+                    return false;
+                }
+            } else if (clause.getValue() instanceof Document) {
+                if (!matchesOperators((Document) clause.getValue(), student.get(key), student.containsKey(key))) {
+                    return false;
+                }
+            } else if (!clause.getValue().equals(student.get(key))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static boolean matchesOperators(Document operators, Object value, boolean present) {
+        for (Map.Entry<String, Object> operator : operators.entrySet()) {
+            Object operand = operator.getValue();
+            boolean matched;
+            switch (operator.getKey()) {
+                case "$in":
+                    matched = ((Collection<Object>) operand).contains(value);
+                    break;
+                case "$lt":
+                    matched = value != null && ((Comparable) value).compareTo(operand) < 0;
+                    break;
+                case "$gte":
+                    matched = value != null && ((Comparable) value).compareTo(operand) >= 0;
+                    break;
+                case "$not":
+                    matched = !matchesOperators((Document) operand, value, present);
+                    break;
+                case "$exists":
+                    matched = present == (Boolean) operand;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported operator " + operator.getKey());
+            }
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
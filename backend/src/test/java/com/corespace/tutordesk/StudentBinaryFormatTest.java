@@ -0,0 +1,113 @@
+package com.corespace.tutordesk;
+
+import com.corespace.tutordesk.application.dto.CreateStudentRequest;
+import com.corespace.tutordesk.application.dto.ProgressEntryDto;
+import com.corespace.tutordesk.application.dto.StudentDto;
+import com.corespace.tutordesk.application.service.impl.NotificationServiceImpl;
+import com.corespace.tutordesk.application.service.impl.StudentServiceImpl;
+import com.corespace.tutordesk.infrastructure.config.BinaryFormatConfig;
+import com.corespace.tutordesk.infrastructure.controller.StudentController;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(StudentController.class)
+@Import(BinaryFormatConfig.class)
+public class StudentBinaryFormatTest {
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+    private static final MediaType CBOR = MediaType.valueOf("application/cbor");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @MockBean
+    private StudentServiceImpl studentService;
+
+    @MockBean
+    private NotificationServiceImpl notificationService;
+
+    @Test
+    void testGetStudentAsSmile() throws Exception {
+        StudentDto student = student();
+        when(studentService.getStudentById("1")).thenReturn(student);
+
+        byte[] body = mockMvc.perform(get("/students/1").accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(student, smileConverter.getObjectMapper().readValue(body, StudentDto.class));
+    }
+
+    @Test
+    void testGetAllStudentsAsCbor() throws Exception {
+        StudentDto student = student();
+        when(studentService.getAllStudents()).thenReturn(List.of(student));
+
+        byte[] body = mockMvc.perform(get("/students").accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        ObjectMapper mapper = cborConverter.getObjectMapper();
+        List<StudentDto> students = mapper.readValue(body, mapper.getTypeFactory().constructCollectionType(List.class, StudentDto.class));
+        assertEquals(List.of(student), students);
+    }
+
+    @Test
+    void testCreateStudentFromSmile() throws Exception {
+        CreateStudentRequest request = new CreateStudentRequest(
+                "John Doe", "john@example.com", "123456789", LocalDate.now(),
+                "Beginner", 100.0, 1, "Notes"
+        );
+        when(studentService.createStudent(any(CreateStudentRequest.class))).thenReturn(student());
+
+        mockMvc.perform(post("/students")
+                        .contentType(SMILE)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(smileConverter.getObjectMapper().writeValueAsBytes(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.name").value("John Doe"));
+
+        verify(studentService, times(1)).createStudent(request);
+    }
+
+    private StudentDto student() {
+        return StudentDto.builder()
+                .id("1")
+                .name("John Doe")
+                .email("john@example.com")
+                .startDate(LocalDate.of(2024, 1, 15))
+                .monthlyFee(150.0)
+                .progress(List.of(ProgressEntryDto.builder()
+                        .id("p1")
+                        .date(LocalDate.of(2024, 1, 20))
+                        .topic("Calculus Fundamentals")
+                        .grade(85.0)
+                        .maxGrade(100.0)
+                        .build()))
+                .build();
+    }
+}
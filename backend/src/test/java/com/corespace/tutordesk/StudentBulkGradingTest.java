@@ -0,0 +1,173 @@
+package com.corespace.tutordesk;
+
+import com.corespace.tutordesk.application.dto.BulkGradeResultDto;
+import com.corespace.tutordesk.application.dto.GradeEntryRequest;
+import com.corespace.tutordesk.application.dto.GradeOutcomeDto;
+import com.corespace.tutordesk.application.service.impl.StudentServiceImpl;
+import com.corespace.tutordesk.infrastructure.replica.StudentReadRepository;
+import com.corespace.tutordesk.infrastructure.repository.AnalyticsRepository;
+import com.corespace.tutordesk.infrastructure.repository.StudentArchiveRepository;
+import com.corespace.tutordesk.infrastructure.repository.StudentRepository;
+import com.corespace.tutordesk.infrastructure.tenant.TenantContext;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.validation.Validation;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class StudentBulkGradingTest {
+
+    private StudentRepository studentRepository;
+    private StudentServiceImpl studentService;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository = mock(StudentRepository.class);
+        studentService = new StudentServiceImpl(
+                studentRepository,
+                mock(StudentReadRepository.class),
+                mock(StudentArchiveRepository.class),
+                mock(AnalyticsRepository.class),
+                Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(studentService, "maxGradingBatchSize", 10);
+        TenantContext.setTeacherId("teacher-42");
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void testPartialFailureReportsEveryPosition() {
+        // Write 1 is the entry at request position 2, since the invalid entry at position 1 is not sent
+        BulkWriteResult result = matched(1);
+        BulkWriteError error = new BulkWriteError(121, "Document failed validation", new BsonDocument(), 1);
+        when(studentRepository.pushProgressEntries(eq("teacher-42"), anyList(), any()))
+                .thenThrow(new BulkOperationException("Bulk write failed",
+                        new MongoBulkWriteException(result, List.of(error), null, new ServerAddress())));
+        when(studentRepository.findExistingIds(eq("teacher-42"), anyCollection()))
+                .thenReturn(Set.of("student-1", "student-2"));
+
+        BulkGradeResultDto response = studentService.addProgressEntries(List.of(
+                entry("student-1"),
+                GradeEntryRequest.builder().studentId("student-1").description("Quiz").grade(8.0).maxGrade(10.0).build(),
+                entry("student-2"),
+                entry("student-3")));
+
+        assertEquals(4, response.getRequested());
+        assertEquals(1, response.getApplied());
+        assertEquals(3, response.getRejected());
+        assertEquals(List.of(GradeOutcomeDto.Status.APPLIED, GradeOutcomeDto.Status.INVALID,
+                        GradeOutcomeDto.Status.FAILED, GradeOutcomeDto.Status.NOT_FOUND),
+                statuses(response));
+        assertEquals("Topic is required", response.getOutcomes().get(1).getMessage());
+        assertEquals("Document failed validation", response.getOutcomes().get(2).getMessage());
+        assertEquals("student-2", response.getOutcomes().get(2).getStudentId());
+        assertEquals("Student not found with id: student-3", response.getOutcomes().get(3).getMessage());
+        verify(studentRepository).findExistingIds("teacher-42", Set.of("student-1", "student-2", "student-3"));
+    }
+
+    @Test
+    void testUnmatchedUpdateFallsBackToExistenceLookup() {
+        BulkWriteResult result = matched(1);
+        when(studentRepository.pushProgressEntries(eq("teacher-42"), anyList(), any())).thenReturn(result);
+        when(studentRepository.findExistingIds(eq("teacher-42"), anyCollection())).thenReturn(Set.of("student-1"));
+
+        BulkGradeResultDto response = studentService.addProgressEntries(List.of(entry("student-1"), entry("student-9")));
+
+        assertEquals(List.of(GradeOutcomeDto.Status.APPLIED, GradeOutcomeDto.Status.NOT_FOUND), statuses(response));
+        assertEquals(1, response.getApplied());
+    }
+
+    @Test
+    void testAllMatchedSkipsExistenceLookup() {
+        BulkWriteResult result = matched(2);
+        when(studentRepository.pushProgressEntries(eq("teacher-42"), anyList(), any())).thenReturn(result);
+
+        BulkGradeResultDto response = studentService.addProgressEntries(List.of(entry("student-1"), entry("student-2")));
+
+        assertEquals(List.of(GradeOutcomeDto.Status.APPLIED, GradeOutcomeDto.Status.APPLIED), statuses(response));
+        assertNull(response.getOutcomes().get(0).getMessage());
+        verify(studentRepository, never()).findExistingIds(anyString(), anyCollection());
+    }
+
+    @Test
+    void testFailedWritesDoNotTriggerExistenceLookup() {
+        // The failed write matched nothing, the remaining one matched, so every student exists
+        BulkWriteResult result = matched(1);
+        BulkWriteError error = new BulkWriteError(121, "Document failed validation", new BsonDocument(), 0);
+        when(studentRepository.pushProgressEntries(eq("teacher-42"), anyList(), any()))
+                .thenThrow(new BulkOperationException("Bulk write failed",
+                        new MongoBulkWriteException(result, List.of(error), null, new ServerAddress())));
+
+        BulkGradeResultDto response = studentService.addProgressEntries(List.of(entry("student-1"), entry("student-2")));
+
+        assertEquals(List.of(GradeOutcomeDto.Status.FAILED, GradeOutcomeDto.Status.APPLIED), statuses(response));
+        verify(studentRepository, never()).findExistingIds(anyString(), anyCollection());
+    }
+
+    @Test
+    void testOnlyInvalidEntriesSkipTheWrite() {
+        BulkGradeResultDto response = studentService.addProgressEntries(List.of(
+                GradeEntryRequest.builder().studentId("student-1").topic("Grammar").description("Quiz").grade(-1.0).maxGrade(10.0).build()));
+
+        assertEquals(List.of(GradeOutcomeDto.Status.INVALID), statuses(response));
+        assertEquals("Grade must not be negative", response.getOutcomes().get(0).getMessage());
+        verify(studentRepository, never()).pushProgressEntries(anyString(), anyList(), any());
+    }
+
+    @Test
+    void testRejectsBatchOverTheLimit() {
+        List<GradeEntryRequest> entries = Collections.nCopies(11, entry("student-1"));
+
+        assertThrows(RuntimeException.class, () -> studentService.addProgressEntries(entries));
+        verify(studentRepository, never()).pushProgressEntries(anyString(), anyList(), any());
+    }
+
+    private static GradeEntryRequest entry(String studentId) {
+        return GradeEntryRequest.builder()
+                .studentId(studentId)
+                .topic("Grammar")
+                .description("Quiz")
+                .grade(8.0)
+                .maxGrade(10.0)
+                .build();
+    }
+
+    private static BulkWriteResult matched(int count) {
+        BulkWriteResult result = mock(BulkWriteResult.class);
+        when(result.getMatchedCount()).thenReturn(count);
+        return result;
+    }
+
+    private static List<GradeOutcomeDto.Status> statuses(BulkGradeResultDto response) {
+        return response.getOutcomes().stream()
+                .map(GradeOutcomeDto::getStatus)
+                .collect(Collectors.toList());
+    }
+}
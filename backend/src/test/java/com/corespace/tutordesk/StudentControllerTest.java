@@ -2,8 +2,13 @@ package com.corespace.tutordesk;
 
 
 
+import com.corespace.tutordesk.application.dto.BulkGradeResultDto;
 import com.corespace.tutordesk.application.dto.CreateStudentRequest;
+import com.corespace.tutordesk.application.dto.GradeEntryRequest;
+import com.corespace.tutordesk.application.dto.GradeOutcomeDto;
+import com.corespace.tutordesk.application.dto.ProgressEntryDto;
 import com.corespace.tutordesk.application.dto.StudentDto;
+import com.corespace.tutordesk.application.dto.UpdateProgressEntryRequest;
 import com.corespace.tutordesk.application.service.impl.NotificationServiceImpl;
 import com.corespace.tutordesk.application.service.impl.StudentServiceImpl;
 import com.corespace.tutordesk.infrastructure.controller.StudentController;
@@ -20,6 +25,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -122,4 +128,62 @@ public class StudentControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.name").value("John Updated"));
     }
+
+    @Test
+    void testAddProgressEntriesInBulk() throws Exception {
+        List<GradeEntryRequest> entries = List.of(
+                new GradeEntryRequest("1", "Past tense", "Quiz", 8.0, 10.0, null),
+                new GradeEntryRequest("2", "Past tense", "Quiz", 9.0, 10.0, null));
+
+        BulkGradeResultDto result = BulkGradeResultDto.builder()
+                .requested(2)
+                .applied(1)
+                .rejected(1)
+                .outcomes(List.of(
+                        new GradeOutcomeDto(0, "1", GradeOutcomeDto.Status.APPLIED, null),
+                        new GradeOutcomeDto(1, "2", GradeOutcomeDto.Status.NOT_FOUND, "Student not found with id: 2")))
+                .build();
+
+        when(studentService.addProgressEntries(anyList())).thenReturn(result);
+
+        mockMvc.perform(post("/students/progress/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(entries)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applied").value(1))
+                .andExpect(jsonPath("$.outcomes[1].status").value("NOT_FOUND"));
+
+        verify(studentService, times(1)).addProgressEntries(anyList());
+    }
+
+    @Test
+    void testUpdateProgressEntry() throws Exception {
+        UpdateProgressEntryRequest request = UpdateProgressEntryRequest.builder().grade(9.5).build();
+        ProgressEntryDto updated = ProgressEntryDto.builder()
+                .id("665f1c2e9b1d8a3f4c2e7a10")
+                .topic("Past tense")
+                .grade(9.5)
+                .maxGrade(10.0)
+                .build();
+
+        when(studentService.updateProgressEntry(eq("1"), eq("665f1c2e9b1d8a3f4c2e7a10"), any(UpdateProgressEntryRequest.class)))
+                .thenReturn(updated);
+
+        mockMvc.perform(patch("/students/1/progress/665f1c2e9b1d8a3f4c2e7a10")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("665f1c2e9b1d8a3f4c2e7a10"))
+                .andExpect(jsonPath("$.grade").value(9.5));
+    }
+
+    @Test
+    void testDeleteProgressEntry() throws Exception {
+        doNothing().when(studentService).deleteProgressEntry("1", "665f1c2e9b1d8a3f4c2e7a10");
+
+        mockMvc.perform(delete("/students/1/progress/665f1c2e9b1d8a3f4c2e7a10"))
+                .andExpect(status().isNoContent());
+
+        verify(studentService, times(1)).deleteProgressEntry("1", "665f1c2e9b1d8a3f4c2e7a10");
+    }
 }
@@ -0,0 +1,67 @@
+package com.corespace.tutordesk;
+
+import com.corespace.tutordesk.infrastructure.tenant.TenantContext;
+import com.corespace.tutordesk.infrastructure.tenant.TenantFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TenantFilterTest {
+
+    private TenantFilter tenantFilter;
+
+    @BeforeEach
+    void setUp() {
+        tenantFilter = new TenantFilter();
+        ReflectionTestUtils.setField(tenantFilter, "tenantHeader", "X-Teacher-Id");
+        ReflectionTestUtils.setField(tenantFilter, "defaultTeacherId", "default");
+    }
+
+    @Test
+    void testBindsTeacherFromHeader() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/students");
+        request.addHeader("X-Teacher-Id", "teacher-42");
+
+        assertEquals("teacher-42", teacherSeenBy(request, new MockHttpServletResponse()));
+        assertThrows(IllegalStateException.class, TenantContext::getTeacherId);
+    }
+
+    @Test
+    void testFallsBackToDefaultTeacher() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/students");
+
+        assertEquals("default", teacherSeenBy(request, new MockHttpServletResponse()));
+    }
+
+    @Test
+    void testRejectsInvalidTeacherId() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/students");
+        request.addHeader("X-Teacher-Id", "{\"$ne\": null}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertNull(teacherSeenBy(request, response));
+        assertEquals(400, response.getStatus());
+    }
+
+    private String teacherSeenBy(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        AtomicReference<String> seen = new AtomicReference<>();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                seen.set(TenantContext.getTeacherId());
+            }
+        });
+        tenantFilter.doFilter(request, response, chain);
+        return seen.get();
+    }
+}
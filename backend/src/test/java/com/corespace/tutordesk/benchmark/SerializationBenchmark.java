@@ -0,0 +1,143 @@
+package com.corespace.tutordesk.benchmark;
+
+import com.corespace.tutordesk.application.dto.ProgressEntryDto;
+import com.corespace.tutordesk.application.dto.StudentDto;
+import com.corespace.tutordesk.domain.entity.Student;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares JSON, Smile and CBOR for a page of progress-heavy students, as
+ * returned by GET /students.
+ *
+ * Run with exec:exec rather than exec:java, the forked benchmark JVM reuses
+ * java.class.path and needs the test classpath on it:
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *   -Dexec.args="-classpath %classpath com.corespace.tutordesk.benchmark.SerializationBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    @Param({"50"})
+    private int students;
+
+    @Param({"120"})
+    private int progressEntries;
+
+    private ObjectMapper mapper;
+    private CollectionType listType;
+    private List<StudentDto> payload;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        mapper = mapper(format);
+        listType = mapper.getTypeFactory().constructCollectionType(List.class, StudentDto.class);
+        payload = students(students, progressEntries);
+        encoded = mapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return mapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public List<StudentDto> decode() throws Exception {
+        return mapper.readValue(encoded, listType);
+    }
+
+    static ObjectMapper mapper(String format) {
+        Jackson2ObjectMapperBuilder builder;
+        switch (format) {
+            case "smile":
+                builder = Jackson2ObjectMapperBuilder.smile();
+                break;
+            case "cbor":
+                builder = Jackson2ObjectMapperBuilder.cbor();
+                break;
+            default:
+                builder = Jackson2ObjectMapperBuilder.json();
+        }
+        // Same settings as spring.jackson.* in application.properties
+        return builder
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    static List<StudentDto> students(int count, int progressEntries) {
+        Random random = new Random(42);
+        String[] topics = {"Calculus Fundamentals", "Shakespeare Analysis", "Quantum Mechanics", "Organic Chemistry", "World History"};
+        String[] levels = {"Beginner", "Intermediate", "Advanced"};
+        List<StudentDto> students = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            LocalDate startDate = LocalDate.of(2022, 1, 1).plusDays(random.nextInt(700));
+            List<ProgressEntryDto> progress = new ArrayList<>(progressEntries);
+            for (int j = 0; j < progressEntries; j++) {
+                String topic = topics[random.nextInt(topics.length)];
+                progress.add(ProgressEntryDto.builder()
+                        .id(Integer.toHexString(random.nextInt()) + Integer.toHexString(random.nextInt()))
+                        .date(startDate.plusDays(j * 3L))
+                        .topic(topic)
+                        .description("Lesson " + j + " on " + topic.toLowerCase())
+                        .grade((double) (50 + random.nextInt(51)))
+                        .maxGrade(100.0)
+                        .comments(random.nextBoolean() ? "Good progress, keep practising the exercises" : null)
+                        .build());
+            }
+            students.add(StudentDto.builder()
+                    .id(Integer.toHexString(random.nextInt()) + Integer.toHexString(random.nextInt()))
+                    .name("Student " + i)
+                    .email("student" + i + "@example.com")
+                    .phone("+12345" + (10000 + i))
+                    .startDate(startDate)
+                    .level(levels[random.nextInt(levels.length)])
+                    .status(Student.StudentStatus.ACTIVE)
+                    .monthlyFee(100.0 + random.nextInt(100))
+                    .paymentDay(1 + random.nextInt(28))
+                    .subscriptionExpiry(startDate.plusMonths(12))
+                    .progress(progress)
+                    .notes("Prefers evening classes")
+                    .build());
+        }
+        return students;
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<StudentDto> payload = students(50, 120);
+        int jsonSize = mapper("json").writeValueAsBytes(payload).length;
+        System.out.println("Payload size for 50 students x 120 progress entries:");
+        for (String format : new String[]{"json", "smile", "cbor"}) {
+            int size = mapper(format).writeValueAsBytes(payload).length;
+            System.out.printf("  %-5s %,9d bytes (%.0f%% of JSON)%n", format, size, 100.0 * size / jsonSize);
+        }
+
+        Options options = new OptionsBuilder()
+                .include(SerializationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,137 @@
+package com.corespace.tutordesk.benchmark;
+
+import com.corespace.tutordesk.infrastructure.repository.StorageMigrationRepository;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.IndexOptions;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures document and index sizes of the students collection before and
+ * after the compact storage migration. Legacy-shaped students are generated,
+ * then converted with the same pipeline the background migration runs.
+ *
+ * Needs a running MongoDB. Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.corespace.tutordesk.benchmark.StorageBenchmark \
+ *   -Dexec.args="mongodb://localhost:27017/tutor_desk_bench 10000"
+ */
+public class StorageBenchmark {
+
+    private static final String BEFORE = "bench_students_before";
+    private static final String AFTER = "bench_students_after";
+
+    public static void main(String[] args) {
+        String uri = args.length > 0 ? args[0] : "mongodb://localhost:27017/tutor_desk_bench";
+        int count = args.length > 1 ? Integer.parseInt(args[1]) : 10000;
+
+        try (MongoClient client = MongoClients.create(uri)) {
+            MongoDatabase database = client.getDatabase(databaseName(uri));
+            database.getCollection(BEFORE).drop();
+            database.getCollection(AFTER).drop();
+
+            MongoCollection<Document> before = database.getCollection(BEFORE);
+            insertLegacyStudents(before, count, 20);
+            createIndexes(before, true);
+
+            List<Document> pipeline = new ArrayList<>(StorageMigrationRepository.studentPipeline());
+            pipeline.add(new Document("$out", AFTER));
+            before.aggregate(pipeline).allowDiskUse(true).toCollection();
+            createIndexes(database.getCollection(AFTER), false);
+
+            client.getDatabase("admin").runCommand(new Document("fsync", 1));
+            Document beforeStats = database.runCommand(new Document("collStats", BEFORE));
+            Document afterStats = database.runCommand(new Document("collStats", AFTER));
+
+            System.out.printf("Storage for %,d students x 20 progress entries:%n", count);
+            System.out.printf("  %-16s %15s %15s %10s%n", "", "before", "after", "change");
+            for (String metric : new String[]{"size", "avgObjSize", "storageSize", "totalIndexSize"}) {
+                long was = beforeStats.get(metric, Number.class).longValue();
+                long now = afterStats.get(metric, Number.class).longValue();
+                System.out.printf("  %-16s %,15d %,15d %9.1f%%%n", metric, was, now, was > 0 ? 100.0 * (now - was) / was : 0.0);
+            }
+
+            database.getCollection(BEFORE).drop();
+            database.getCollection(AFTER).drop();
+        }
+    }
+
+    // Same shape the application wrote before the compact schema
+    static void insertLegacyStudents(MongoCollection<Document> collection, int count, int progressEntries) {
+        Random random = new Random(42);
+        String[] topics = {"Calculus Fundamentals", "Shakespeare Analysis", "Quantum Mechanics", "Organic Chemistry", "World History"};
+        String[] levels = {"Beginner", "intermediate", "Advanced", "B1", " advanced "};
+        String[] statuses = {"ACTIVE", "ACTIVE", "ACTIVE", "INACTIVE", "GRADUATED", "SUSPENDED"};
+        List<Document> batch = new ArrayList<>(1000);
+
+        for (int i = 0; i < count; i++) {
+            LocalDate startDate = LocalDate.of(2022, 1, 1).plusDays(random.nextInt(700));
+            Date created = toDate(startDate);
+            List<Document> progress = new ArrayList<>(progressEntries);
+            for (int j = 0; j < progressEntries; j++) {
+                String topic = topics[random.nextInt(topics.length)];
+                progress.add(new Document("_id", new ObjectId())
+                        .append("date", toDate(startDate.plusDays(j * 3L)))
+                        .append("topic", topic)
+                        .append("description", "Lesson " + j + " on " + topic.toLowerCase())
+                        .append("grade", (double) (50 + random.nextInt(51)))
+                        .append("max_grade", 100.0)
+                        .append("created_at", created));
+            }
+            batch.add(new Document("teacher_id", "teacher-" + (i % 50))
+                    .append("name", "Student " + i)
+                    .append("email", "student" + i + "@example.com")
+                    .append("phone", "+12345" + (10000 + i))
+                    .append("start_date", created)
+                    .append("level", levels[random.nextInt(levels.length)])
+                    .append("status", statuses[random.nextInt(statuses.length)])
+                    .append("monthly_fee", 100.0 + random.nextInt(100))
+                    .append("payment_day", 1 + random.nextInt(28))
+                    .append("subscription_expiry", toDate(startDate.plusMonths(12)))
+                    .append("progress", progress)
+                    .append("notes", "Prefers evening classes")
+                    .append("created_at", created)
+                    .append("updated_at", created));
+            if (batch.size() == 1000) {
+                collection.insertMany(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            collection.insertMany(batch);
+        }
+    }
+
+    // Mirrors the indexes declared on Student, plus the created_at index V7 drops
+    static void createIndexes(MongoCollection<Document> collection, boolean legacy) {
+        collection.createIndex(new Document("teacher_id", 1).append("_id", 1));
+        collection.createIndex(new Document("teacher_id", 1).append("email", 1), new IndexOptions().unique(true));
+        collection.createIndex(new Document("teacher_id", 1).append("status", 1).append("subscription_expiry", 1));
+        collection.createIndex(new Document("status", 1).append("subscription_expiry", 1));
+        collection.createIndex(new Document("status", 1).append("updated_at", 1));
+        collection.createIndex(new Document("updated_at", 1));
+        if (legacy) {
+            collection.createIndex(new Document("created_at", 1));
+        }
+    }
+
+    private static String databaseName(String uri) {
+        String path = uri.substring(uri.lastIndexOf('/') + 1);
+        int options = path.indexOf('?');
+        String name = options >= 0 ? path.substring(0, options) : path;
+        return name.isEmpty() ? "tutor_desk_bench" : name;
+    }
+
+    private static Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay().toInstant(ZoneOffset.UTC));
+    }
+}